@@ -0,0 +1,57 @@
+package me.nyungnim.blog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import me.nyungnim.blog.dto.ArticleResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** 글 목록 JSON 직렬화 벤치마크
+ * 글 목록 API 응답(List<ArticleResponse>)을 JSON 바이트로 직렬화하는 비용을 측정
+ * - 스프링 MVC와 같은 설정(Jackson2ObjectMapperBuilder)의 ObjectMapper 사용
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleJsonBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter listWriter;
+    private List<ArticleResponse> articles;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // 타입 정보를 미리 지정한 writer를 재사용 -> 요청마다 직렬화기를 찾는 비용과 비교
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, ArticleResponse.class));
+        articles = BenchmarkArticles.create(size).stream()
+                .map(article -> new ArticleResponse(article, article.getViewCount()))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] writeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(articles);
+    }
+
+    @Benchmark
+    public byte[] writeListWithTypedWriter() throws JsonProcessingException {
+        return listWriter.writeValueAsBytes(articles);
+    }
+}
@@ -0,0 +1,50 @@
+package me.nyungnim.blog.benchmark;
+
+import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.dto.ArticleListViewResponse;
+import me.nyungnim.blog.dto.ArticleResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** 엔티티 -> DTO 변환 벤치마크
+ * 글 목록 API/화면이 요청마다 수행하는 Article -> ArticleResponse/ArticleListViewResponse 변환 비용을 측정
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArticleMappingBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private List<Article> articles;
+
+    @Setup
+    public void setUp() {
+        articles = BenchmarkArticles.create(size);
+    }
+
+    @Benchmark
+    public List<ArticleResponse> toArticleResponse() {
+        return articles.stream()
+                .map(article -> new ArticleResponse(article, article.getViewCount()))
+                .toList();
+    }
+
+    @Benchmark
+    public List<ArticleListViewResponse> toArticleListViewResponse() {
+        return articles.stream()
+                .map(ArticleListViewResponse::new)
+                .toList();
+    }
+}
@@ -0,0 +1,40 @@
+package me.nyungnim.blog.benchmark;
+
+import me.nyungnim.blog.domain.Article;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+// 벤치마크용 글 데이터, id는 DB가 채우는 값이므로 리플렉션으로 지정
+final class BenchmarkArticles {
+
+    private static final String CONTENT = "스프링 부트로 블로그 만들기. ".repeat(40);
+
+    private BenchmarkArticles() {
+    }
+
+    static List<Article> create(int count) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Article article = Article.builder()
+                    .title("title " + i)
+                    .content(CONTENT)
+                    .build();
+            setField(article, "id", (long) i);
+            setField(article, "version", 0L);
+            articles.add(article);
+        }
+        return articles;
+    }
+
+    private static void setField(Article article, String name, Object value) {
+        try {
+            Field field = Article.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(article, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
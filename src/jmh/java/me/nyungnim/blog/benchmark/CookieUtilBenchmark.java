@@ -0,0 +1,54 @@
+package me.nyungnim.blog.benchmark;
+
+import jakarta.servlet.http.Cookie;
+import me.nyungnim.blog.util.CookieUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/** 쿠키 직렬화/역직렬화 벤치마크
+ * OAuth2 로그인 중 쿠키에 저장하는 인가 요청(OAuth2AuthorizationRequest)을 기준으로
+ * 자바 직렬화 + Base64 인코딩/디코딩 비용을 측정
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CookieUtilBenchmark {
+
+    private static final String COOKIE_NAME = "oauth2_auth_request";
+
+    private OAuth2AuthorizationRequest authorizationRequest;
+    private Cookie cookie;
+
+    @Setup
+    public void setUp() {
+        authorizationRequest = OAuth2AuthorizationRequest.authorizationCode()
+                .authorizationUri("https://accounts.google.com/o/oauth2/v2/auth")
+                .clientId("benchmark-client-id")
+                .redirectUri("http://localhost:8080/login/oauth2/code/google")
+                .scopes(Set.of("email", "profile"))
+                .state("benchmark-state")
+                .attributes(attributes -> attributes.put("registration_id", "google"))
+                .build();
+        cookie = new Cookie(COOKIE_NAME, CookieUtil.serialize(authorizationRequest));
+    }
+
+    @Benchmark
+    public String serialize() {
+        return CookieUtil.serialize(authorizationRequest);
+    }
+
+    @Benchmark
+    public OAuth2AuthorizationRequest deserialize() {
+        return CookieUtil.deserialize(cookie, OAuth2AuthorizationRequest.class);
+    }
+}
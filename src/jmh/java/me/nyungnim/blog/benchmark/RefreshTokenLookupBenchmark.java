@@ -0,0 +1,126 @@
+package me.nyungnim.blog.benchmark;
+
+import me.nyungnim.blog.util.HashUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/** 리프레시 토큰 재발급(POST /api/token)의 DB 조회 벤치마크
+ * 애플리케이션과 같은 스키마를 내장 H2(메모리)에 만들고 저장된 토큰 수(tokens)를 바꿔가며 측정
+ * - scanThenFindUser : 변경 전, 인덱스 없는 토큰 원문 컬럼으로 조회한 뒤 사용자를 한 번 더 조회 (DB 왕복 2번)
+ * - hashJoin : 변경 후, 토큰 해시(유니크 인덱스)로 조회하면서 사용자를 조인 (DB 왕복 1번)
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RefreshTokenLookupBenchmark {
+
+    @Param({"1000", "100000"})
+    private int tokens;
+
+    private Connection connection;
+    private PreparedStatement findByRefreshToken;
+    private PreparedStatement findUserById;
+    private PreparedStatement findOwnerByRefreshTokenHash;
+    private String[] refreshTokens;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:refresh-token-benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table users (id bigint primary key, email varchar(255) not null unique, " +
+                    "password varchar(255))");
+            statement.execute("create table refresh_token (id bigint primary key, user_id bigint not null unique, " +
+                    "refresh_token varchar(255) not null, refresh_token_hash varchar(64))");
+            statement.execute("create unique index idx_refresh_token_hash on refresh_token (refresh_token_hash)");
+        }
+
+        refreshTokens = new String[tokens];
+        try (PreparedStatement insertUser = connection.prepareStatement(
+                "insert into users (id, email, password) values (?, ?, 'password')");
+             PreparedStatement insertToken = connection.prepareStatement(
+                     "insert into refresh_token (id, user_id, refresh_token, refresh_token_hash) values (?, ?, ?, ?)")) {
+            for (int i = 0; i < tokens; i++) {
+                refreshTokens[i] = refreshToken(i);
+                insertUser.setLong(1, i);
+                insertUser.setString(2, "user" + i + "@gmail.com");
+                insertUser.addBatch();
+                insertToken.setLong(1, i);
+                insertToken.setLong(2, i);
+                insertToken.setString(3, refreshTokens[i]);
+                insertToken.setString(4, HashUtil.sha256Hex(refreshTokens[i]));
+                insertToken.addBatch();
+            }
+            insertUser.executeBatch();
+            insertToken.executeBatch();
+        }
+
+        findByRefreshToken = connection.prepareStatement(
+                "select id, user_id, refresh_token from refresh_token where refresh_token = ?");
+        findUserById = connection.prepareStatement("select id, email, password from users where id = ?");
+        findOwnerByRefreshTokenHash = connection.prepareStatement(
+                "select r.refresh_token, u.id, u.email from refresh_token r join users u on u.id = r.user_id " +
+                        "where r.refresh_token_hash = ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop all objects");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public String scanThenFindUser() throws SQLException {
+        String refreshToken = randomToken();
+        long userId;
+        findByRefreshToken.setString(1, refreshToken);
+        try (ResultSet resultSet = findByRefreshToken.executeQuery()) {
+            resultSet.next();
+            userId = resultSet.getLong("user_id");
+        }
+        findUserById.setLong(1, userId);
+        try (ResultSet resultSet = findUserById.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString("email");
+        }
+    }
+
+    @Benchmark
+    public String hashJoin() throws SQLException {
+        String refreshToken = randomToken();
+        findOwnerByRefreshTokenHash.setString(1, HashUtil.sha256Hex(refreshToken));
+        try (ResultSet resultSet = findOwnerByRefreshTokenHash.executeQuery()) {
+            resultSet.next();
+            return resultSet.getString("email");
+        }
+    }
+
+    private String randomToken() {
+        return refreshTokens[ThreadLocalRandom.current().nextInt(tokens)];
+    }
+
+    // 실제 리프레시 토큰(JWT)과 비슷한 길이의 문자열, 앞부분(헤더)이 같은 것도 실제 토큰과 같음
+    private static String refreshToken(int i) {
+        return "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9." + HashUtil.sha256Hex("payload-" + i) + "."
+                + HashUtil.sha256Hex("signature-" + i);
+    }
+}
@@ -0,0 +1,66 @@
+package me.nyungnim.blog.benchmark;
+
+import me.nyungnim.blog.config.jwt.JwtProperties;
+import me.nyungnim.blog.config.jwt.TokenAuthenticationCache;
+import me.nyungnim.blog.config.jwt.TokenProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/** 토큰 발급/검증 벤치마크
+ * 인증이 필요한 요청마다 실행되는 토큰 검증(HMAC 서명 + Claims 파싱) 비용을 측정
+ * - authenticateCached : 검증 캐시(TokenAuthenticationCache)에 적중했을 때의 비용
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenProviderBenchmark {
+
+    private static final Duration EXPIRED_AT = Duration.ofHours(2);
+
+    private TokenProvider tokenProvider;
+    private TokenProvider cachingTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setIssuer("benchmark@nyungnim.me");
+        jwtProperties.setSecretKey("benchmark-secret-key");
+
+        tokenProvider = new TokenProvider(jwtProperties,
+                new TokenAuthenticationCache(false, 0, Duration.ZERO));
+        cachingTokenProvider = new TokenProvider(jwtProperties,
+                new TokenAuthenticationCache(true, 10_000, Duration.ofMinutes(10)));
+        token = tokenProvider.generateToken(1L, "user@gmail.com", EXPIRED_AT);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(1L, "user@gmail.com", EXPIRED_AT);
+    }
+
+    @Benchmark
+    public boolean validToken() {
+        return tokenProvider.validToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication authenticateCached() {
+        return cachingTokenProvider.authenticate(token);
+    }
+}
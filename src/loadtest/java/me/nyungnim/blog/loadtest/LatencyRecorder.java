@@ -0,0 +1,52 @@
+package me.nyungnim.blog.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/** 요청 종류별 응답 시간(HdrHistogram) + 실패 수
+ * - 응답 시간은 마이크로초 단위, 유효 숫자 3자리로 기록
+ * - Recorder는 여러 스레드가 기록하는 중에도 구간 히스토그램을 꺼낼 수 있음 -> 워밍업 구간을 버리고 측정 구간만 집계
+ */
+final class LatencyRecorder {
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LatencyRecorder() {
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long elapsedNanos) {
+        recorders.get(operation).recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    void recordError(Operation operation) {
+        errors.get(operation).increment();
+    }
+
+    // 지금까지 기록한 값을 버림 (워밍업 종료 시점)
+    void reset() {
+        snapshot();
+    }
+
+    // 마지막 reset/snapshot 이후에 기록한 응답 시간과 실패 수를 꺼내고 비움
+    Map<Operation, Result> snapshot() {
+        Map<Operation, Result> results = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            results.put(operation, new Result(recorders.get(operation).getIntervalHistogram(),
+                    errors.get(operation).sumThenReset()));
+        }
+        return results;
+    }
+
+    record Result(Histogram histogram, long errors) {
+    }
+}
@@ -0,0 +1,98 @@
+package me.nyungnim.blog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import me.nyungnim.blog.BlogApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** 애플리케이션 전체 부하 테스트 : ./gradlew loadTest
+ * 1. 내장 H2(메모리)로 BlogApplication을 임의 포트에 띄움 -> 외부 DB, 네트워크 없이 한 대에서 실행
+ * 2. 글, 사용자, 리프레시 토큰을 미리 넣음
+ * 3. 클라이언트마다 로그인한 뒤 요청 비율에 따라 목록/조회/작성/수정/삭제/토큰 재발급 요청을 보냄
+ * 4. 워밍업 구간을 버리고 측정 구간의 요청 종류별 응답 시간 분포를 리포트로 저장
+ * 실패 비율이 loadtest.max-error-rate를 넘으면 종료 코드 1 -> 빌드 실패로 릴리스를 막을 수 있음
+ */
+public class LoadTest {
+
+    // 설정 파일이 없어도 실행되도록 하는 기본값, 시스템 프로퍼티/환경 변수가 있으면 그 값을 사용
+    private static final Map<String, Object> DEFAULT_PROPERTIES = Map.of(
+            "spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+            "spring.jpa.defer-datasource-initialization", "true",
+            "spring.h2.console.enabled", "true",    // 보안 설정(WebSecurityConfig)이 H2 콘솔 경로를 참조
+            "jwt.issuer", "loadtest@nyungnim.me",
+            "jwt.secret_key", "loadtest-secret-key",
+            "logging.level.root", "WARN");
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        boolean passed;
+        try (ConfigurableApplicationContext context = start(settings)) {
+            LoadTestSeeder.SeedData seedData = new LoadTestSeeder(context).seed(settings);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            LoadTestReport report = run(settings, URI.create("http://localhost:" + port), seedData);
+            report.write(settings.reportDir());
+            report.print(System.out);
+            System.out.println("report: " + settings.reportDir().toAbsolutePath());
+            passed = report.errorRate() <= settings.maxErrorRate();
+        }
+        System.exit(passed ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings) {
+        SpringApplication application = new SpringApplication(BlogApplication.class);
+        application.setDefaultProperties(DEFAULT_PROPERTIES);
+        if (!settings.profiles().isBlank()) {
+            application.setAdditionalProfiles(settings.profiles().split(","));
+        }
+        // 관리 포트(metrics.properties)는 명령행 인자로만 덮어쓸 수 있음 -> 부하 테스트에서는 액추에이터를 띄우지 않음
+        return application.run("--server.port=0", "--management.server.port=-1");
+    }
+
+    private static LoadTestReport run(LoadTestSettings settings, URI baseUri, LoadTestSeeder.SeedData seedData)
+            throws InterruptedException, ExecutionException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            List<Future<?>> workers = new ArrayList<>(settings.concurrency());
+            for (int i = 0; i < settings.concurrency(); i++) {
+                LoadTestSeeder.SeedUser user = seedData.users().get(i % seedData.users().size());
+                workers.add(executor.submit(new LoadTestWorker(baseUri, settings, seedData, user, recorder, running,
+                        objectMapper)));
+            }
+
+            TimeUnit.MILLISECONDS.sleep(settings.warmup().toMillis());
+            recorder.reset();   // 워밍업 구간(JIT 컴파일, 캐시 적재 전) 결과는 버림
+            long measureStart = System.nanoTime();
+            TimeUnit.MILLISECONDS.sleep(settings.duration().toMillis());
+            Map<Operation, LatencyRecorder.Result> results = recorder.snapshot();
+            Duration measured = Duration.ofNanos(System.nanoTime() - measureStart);
+
+            running.set(false);
+            for (Future<?> worker : workers) {
+                worker.get();   // 로그인 실패 등 클라이언트에서 난 예외를 그대로 전달
+            }
+            return new LoadTestReport(settings, measured, results);
+        } finally {
+            running.set(false);
+            executor.shutdownNow();
+        }
+    }
+}
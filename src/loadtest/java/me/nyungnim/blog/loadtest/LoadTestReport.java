@@ -0,0 +1,112 @@
+package me.nyungnim.blog.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/** 부하 테스트 결과 리포트
+ * - report.json : 요청 종류별 요청 수, 실패 수, 처리량, p50/p90/p99/p999/최대 응답 시간(ms) -> 릴리스 간 비교용
+ * - report.txt : 같은 내용을 표로 출력
+ * - <종류>.hgrm : HdrHistogram 백분위 분포 (HdrHistogram 플로터로 그래프를 그릴 수 있음)
+ */
+final class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final LoadTestSettings settings;
+    private final Duration measured;
+    private final Map<Operation, LatencyRecorder.Result> results;
+
+    LoadTestReport(LoadTestSettings settings, Duration measured, Map<Operation, LatencyRecorder.Result> results) {
+        this.settings = settings;
+        this.measured = measured;
+        this.results = results;
+    }
+
+    // 전체 요청 중 실패한 요청의 비율
+    double errorRate() {
+        long total = 0;
+        long errors = 0;
+        for (LatencyRecorder.Result result : results.values()) {
+            total += result.histogram().getTotalCount() + result.errors();
+            errors += result.errors();
+        }
+        return total == 0 ? 1.0 : (double) errors / total;
+    }
+
+    void write(Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(reportDir.resolve("report.json").toFile(), toJson());
+        try (PrintStream out = new PrintStream(reportDir.resolve("report.txt").toFile(), "UTF-8")) {
+            print(out);
+        }
+        for (Map.Entry<Operation, LatencyRecorder.Result> entry : results.entrySet()) {
+            try (PrintStream out = new PrintStream(reportDir.resolve(entry.getKey().key() + ".hgrm").toFile(), "UTF-8")) {
+                entry.getValue().histogram().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("articles=%d users=%d concurrency=%d duration=%ss profiles=%s%n", settings.articles(),
+                settings.users(), settings.concurrency(), measured.toSeconds(),
+                settings.profiles().isBlank() ? "default" : settings.profiles());
+        out.printf("%-8s %10s %8s %10s %10s %10s %10s %10s %10s%n",
+                "op", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)");
+        for (Map.Entry<Operation, LatencyRecorder.Result> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            if (histogram.getTotalCount() == 0 && entry.getValue().errors() == 0) {
+                continue;
+            }
+            out.printf("%-8s %10d %8d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f%n", entry.getKey().key(),
+                    histogram.getTotalCount(), entry.getValue().errors(), throughput(histogram),
+                    millis(histogram, 50.0), millis(histogram, 90.0), millis(histogram, 99.0),
+                    millis(histogram, 99.9), histogram.getMaxValue() / MICROS_PER_MILLI);
+        }
+        out.printf("error rate: %.4f (max %.4f)%n", errorRate(), settings.maxErrorRate());
+    }
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("articles", settings.articles());
+        report.put("users", settings.users());
+        report.put("concurrency", settings.concurrency());
+        report.put("durationSeconds", measured.toMillis() / 1000.0);
+        report.put("profiles", settings.profiles());
+        report.put("errorRate", errorRate());
+
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Map.Entry<Operation, LatencyRecorder.Result> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue().histogram();
+            Map<String, Object> operation = new LinkedHashMap<>();
+            operation.put("count", histogram.getTotalCount());
+            operation.put("errors", entry.getValue().errors());
+            operation.put("throughput", throughput(histogram));
+            operation.put("p50Ms", millis(histogram, 50.0));
+            operation.put("p90Ms", millis(histogram, 90.0));
+            operation.put("p99Ms", millis(histogram, 99.0));
+            operation.put("p999Ms", millis(histogram, 99.9));
+            operation.put("maxMs", histogram.getMaxValue() / MICROS_PER_MILLI);
+            operations.put(entry.getKey().key(), operation);
+        }
+        report.put("operations", operations);
+        return report;
+    }
+
+    private double throughput(Histogram histogram) {
+        return histogram.getTotalCount() / (measured.toMillis() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,79 @@
+package me.nyungnim.blog.loadtest;
+
+import me.nyungnim.blog.config.jwt.TokenProvider;
+import me.nyungnim.blog.domain.RefreshToken;
+import me.nyungnim.blog.domain.User;
+import me.nyungnim.blog.domain.repository.RefreshTokenRepository;
+import me.nyungnim.blog.domain.repository.UserRepository;
+import me.nyungnim.blog.dto.AddArticleRequest;
+import me.nyungnim.blog.dto.BatchArticleResult;
+import me.nyungnim.blog.service.BlogService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// 부하 테스트 데이터 준비 : data.sql의 글 3개 외에 글, 사용자, 리프레시 토큰을 애플리케이션 서비스/레포지토리로 저장
+final class LoadTestSeeder {
+
+    static final String PASSWORD = "loadtest-password";
+    private static final String CONTENT = "부하 테스트용 글 본문입니다. ".repeat(10);
+
+    private final ApplicationContext context;
+
+    LoadTestSeeder(ApplicationContext context) {
+        this.context = context;
+    }
+
+    SeedData seed(LoadTestSettings settings) {
+        return new SeedData(seedArticles(settings.articles()), seedUsers(settings.users()));
+    }
+
+    // 글은 일괄 등록(saveAll)으로 저장 -> JDBC 배치 INSERT
+    private long[] seedArticles(int count) {
+        List<AddArticleRequest> requests = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            requests.add(new AddArticleRequest("부하 테스트 글 " + i, CONTENT));
+        }
+        long[] ids = context.getBean(BlogService.class).saveAll(requests).stream()
+                .filter(BatchArticleResult::isCreated)
+                .mapToLong(BatchArticleResult::getId)
+                .toArray();
+        if (ids.length != count) {
+            throw new IllegalStateException("seeded " + ids.length + " of " + count + " articles");
+        }
+        return ids;
+    }
+
+    // 비밀번호 해시는 한 번만 계산해서 모든 사용자가 공유 -> BCrypt 비용 때문에 준비 시간이 길어지지 않도록
+    private List<SeedUser> seedUsers(int count) {
+        String passwordHash = context.getBean(PasswordEncoder.class).encode(PASSWORD);
+        List<User> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(User.builder()
+                    .email("loadtest-" + i + "@nyungnim.me")
+                    .password(passwordHash)
+                    .build());
+        }
+        users = context.getBean(UserRepository.class).saveAll(users);
+
+        TokenProvider tokenProvider = context.getBean(TokenProvider.class);
+        List<RefreshToken> refreshTokens = new ArrayList<>(count);
+        List<SeedUser> seedUsers = new ArrayList<>(count);
+        for (User user : users) {
+            String refreshToken = tokenProvider.generateToken(user, Duration.ofDays(14));
+            refreshTokens.add(new RefreshToken(user.getId(), refreshToken));
+            seedUsers.add(new SeedUser(user.getEmail(), refreshToken));
+        }
+        context.getBean(RefreshTokenRepository.class).saveAll(refreshTokens);
+        return seedUsers;
+    }
+
+    record SeedData(long[] articleIds, List<SeedUser> users) {
+    }
+
+    record SeedUser(String email, String refreshToken) {
+    }
+}
@@ -0,0 +1,83 @@
+package me.nyungnim.blog.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/** 부하 테스트 설정, 모두 시스템 프로퍼티(-Ploadtest.xxx=...)로 바꿀 수 있음
+ * - loadtest.articles : 미리 넣어둘 글 수
+ * - loadtest.users : 미리 넣어둘 사용자(+ 리프레시 토큰) 수
+ * - loadtest.concurrency : 동시에 요청을 보내는 클라이언트 수, 클라이언트마다 로그인 세션이 하나씩
+ * - loadtest.warmup / loadtest.duration : 워밍업(결과에서 제외), 측정 시간
+ * - loadtest.mix : 요청 종류별 비율, ex) list=40,read=40,create=8,update=6,delete=2,token=4
+ * - loadtest.profiles : 애플리케이션 프로필, ex) virtual-threads
+ * - loadtest.max-error-rate : 실패 요청 비율이 이 값을 넘으면 종료 코드 1 (릴리스 게이트)
+ * - loadtest.report-dir : 리포트를 저장할 디렉터리
+ */
+record LoadTestSettings(int articles,
+                        int users,
+                        int concurrency,
+                        Duration warmup,
+                        Duration duration,
+                        Map<Operation, Integer> mix,
+                        String profiles,
+                        double maxErrorRate,
+                        Path reportDir) {
+
+    private static final String DEFAULT_MIX = "list=40,read=40,create=8,update=6,delete=2,token=4";
+
+    LoadTestSettings {
+        if (articles < 1 || users < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("articles, users and concurrency must be positive");
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.articles", 10_000),
+                Integer.getInteger("loadtest.users", 100),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT15S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                parseMix(System.getProperty("loadtest.mix", DEFAULT_MIX)),
+                System.getProperty("loadtest.profiles", ""),
+                Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01")),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")));
+    }
+
+    // 비율에 따라 다음에 보낼 요청 종류를 고름
+    Operation nextOperation(ThreadLocalRandom random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("empty mix");
+    }
+
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        for (String part : value.split(",")) {
+            String[] keyAndWeight = part.trim().split("=");
+            if (keyAndWeight.length != 2) {
+                throw new IllegalArgumentException("invalid mix entry: " + part);
+            }
+            int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("negative weight: " + part);
+            }
+            if (weight > 0) {
+                mix.put(Operation.of(keyAndWeight[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("mix must contain at least one operation: " + value);
+        }
+        return mix;
+    }
+}
@@ -0,0 +1,180 @@
+package me.nyungnim.blog.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** 요청을 보내는 클라이언트 하나
+ * - 시작할 때 폼 로그인으로 세션을 얻고, 멈추라는 신호가 올 때까지 요청 비율에 따라 요청을 보냄
+ * - 응답을 받으면 다음 요청을 보내는 닫힌 루프(closed loop) : 응답이 느려지면 보내는 요청 수도 줄어듦
+ * - 수정/삭제는 이 클라이언트가 만든 글에만 함 -> 클라이언트끼리 버전 충돌(409)이 나지 않도록
+ *   만든 글이 없으면 대신 글을 만듦
+ */
+final class LoadTestWorker implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final String JSON = "application/json";
+
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final LoadTestSeeder.SeedData seedData;
+    private final LoadTestSeeder.SeedUser user;
+    private final LatencyRecorder recorder;
+    private final AtomicBoolean running;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    // 이 클라이언트가 만든 글의 {id, version}
+    private final Deque<long[]> ownArticles = new ArrayDeque<>();
+
+    LoadTestWorker(URI baseUri, LoadTestSettings settings, LoadTestSeeder.SeedData seedData, LoadTestSeeder.SeedUser user,
+                   LatencyRecorder recorder, AtomicBoolean running, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.seedData = seedData;
+        this.user = user;
+        this.recorder = recorder;
+        this.running = running;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())  // 로그인 세션(JSESSIONID) 유지
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    @Override
+    public void run() {
+        login();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running.get()) {
+            Operation operation = settings.nextOperation(random);
+            if ((operation == Operation.UPDATE || operation == Operation.DELETE) && ownArticles.isEmpty()) {
+                operation = Operation.CREATE;
+            }
+            execute(operation, random);
+        }
+    }
+
+    private void login() {
+        String form = "username=" + URLEncoder.encode(user.email(), StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(LoadTestSeeder.PASSWORD, StandardCharsets.UTF_8);
+        HttpRequest request = request("/login")
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            String location = response.headers().firstValue("Location").orElse("");
+            if (response.statusCode() != 302 || location.contains("error")) {
+                throw new IllegalStateException("login failed for " + user.email() + ": " + response.statusCode());
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("login failed for " + user.email(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("login interrupted", e);
+        }
+    }
+
+    private void execute(Operation operation, ThreadLocalRandom random) {
+        long[] ownArticle = null;
+        HttpRequest request;
+        int expectedStatus = 200;
+        switch (operation) {
+            case LIST -> request = request("/api/articles?size=20").GET().build();
+            case READ -> {
+                long[] ids = seedData.articleIds();
+                request = request("/api/articles/" + ids[random.nextInt(ids.length)]).GET().build();
+            }
+            case CREATE -> {
+                request = jsonRequest("/api/articles", "POST",
+                        Map.of("title", "새 글", "content", "부하 테스트 중 작성한 글"));
+                expectedStatus = 201;
+            }
+            case UPDATE -> {
+                ownArticle = ownArticles.peekFirst();
+                request = jsonRequest("/api/articles/" + ownArticle[0], "PUT",
+                        Map.of("title", "수정한 글", "content", "부하 테스트 중 수정한 글", "version", ownArticle[1]));
+            }
+            case DELETE -> {
+                ownArticle = ownArticles.pollLast();
+                request = request("/api/articles/" + ownArticle[0]).DELETE().build();
+            }
+            case TOKEN -> {
+                LoadTestSeeder.SeedUser tokenOwner = seedData.users().get(random.nextInt(seedData.users().size()));
+                request = jsonRequest("/api/token", "POST", Map.of("refreshToken", tokenOwner.refreshToken()));
+                expectedStatus = 201;
+            }
+            default -> throw new IllegalStateException("unexpected operation: " + operation);
+        }
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            recorder.recordError(operation);
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running.set(false);
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        if (response.statusCode() != expectedStatus) {
+            recorder.recordError(operation);
+            return;
+        }
+        recorder.record(operation, elapsedNanos);
+
+        if (operation == Operation.CREATE || operation == Operation.UPDATE) {
+            trackOwnArticle(response.body(), ownArticle);
+        }
+    }
+
+    // 만든 글은 목록에 추가, 수정한 글은 새 버전으로 갱신
+    private void trackOwnArticle(String body, long[] ownArticle) {
+        try {
+            JsonNode article = objectMapper.readTree(body);
+            if (ownArticle == null) {
+                ownArticles.addFirst(new long[]{article.get("id").asLong(), article.get("version").asLong()});
+            } else {
+                ownArticle[1] = article.get("version").asLong();
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("unexpected article response: " + body, e);
+        }
+    }
+
+    private HttpRequest jsonRequest(String path, String method, Map<String, Object> body) {
+        try {
+            return request(path)
+                    .header("Content-Type", JSON)
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", JSON);
+    }
+}
@@ -0,0 +1,30 @@
+package me.nyungnim.blog.loadtest;
+
+// 부하 테스트에서 보내는 요청 종류, key는 요청 비율(loadtest.mix) 설정에서 쓰는 이름
+enum Operation {
+    LIST("list"),       // GET /api/articles
+    READ("read"),       // GET /api/articles/{id}
+    CREATE("create"),   // POST /api/articles
+    UPDATE("update"),   // PUT /api/articles/{id}
+    DELETE("delete"),   // DELETE /api/articles/{id}
+    TOKEN("token");     // POST /api/token (리프레시 토큰으로 액세스 토큰 재발급)
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation of(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("unknown operation: " + key);
+    }
+}
@@ -2,12 +2,18 @@ package me.nyungnim.blog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 // created_at, updated_at 자동 업데이트
 @EnableJpaAuditing
 // 스프링부트 어플리케이션임을 선언
-@SpringBootApplication
+// R2DBC 자동 설정 제외 -> JDBC DataSource, JPA는 스프링부트 자동 설정을 그대로 사용
+// - R2DBC 자동 설정은 r2dbc-h2가 있으면 내장 H2 ConnectionFactory를 만들고, ConnectionFactory 빈이 있으면 DataSource 자동 설정이 꺼짐
+// - R2DBC 트랜잭션 매니저가 생기면 JPA 트랜잭션 매니저 자동 설정이 꺼짐 (R2DBC는 읽기 전용 조회만 사용)
+// R2DBC 읽기 API(/rx/api/articles)는 blog.reactive.enabled=true일 때만 R2dbcConfig로 설정
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
 public class BlogApplication {
     public static void main(String[] args) {
         // 스프링부트 어플리케이션 시작
@@ -0,0 +1,13 @@
+package me.nyungnim.blog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// @Async(백그라운드 스레드에서 실행), @Scheduled(주기적으로 실행) 사용 설정
+// 실행에 사용하는 스레드 풀은 스프링 부트가 자동으로 구성 (spring.task.execution.*, spring.task.scheduling.*)
+@EnableAsync
+@EnableScheduling
+@Configuration
+public class AsyncConfig {
+}
@@ -0,0 +1,46 @@
+package me.nyungnim.blog.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+// @Cacheable, @CacheEvict 애너테이션을 사용하기 위한 캐시 설정
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    // 글 단건 조회(id -> Article) 캐시 이름
+    public static final String ARTICLE_CACHE = "article";
+    // 로그인 시 email로 사용자 조회(email -> UserSnapshot) 캐시 이름
+    public static final String USER_CACHE = "userByEmail";
+
+    @Bean
+    public CacheManager cacheManager(
+            @Value("${blog.cache.article.maximum-size:10000}") long articleMaximumSize,
+            @Value("${blog.cache.article.expire-after-write:10m}") Duration articleExpireAfterWrite,
+            @Value("${blog.cache.user.maximum-size:10000}") long userMaximumSize,
+            @Value("${blog.cache.user.expire-after-write:10m}") Duration userExpireAfterWrite,
+            CaffeineCacheFactory cacheFactory) {
+        // 애플리케이션 메모리 안에 저장하는 Caffeine 캐시, 최대 개수와 TTL을 넘으면 자동으로 제거(eviction)
+        // recordStats() : 적중(hit)/실패(miss)/제거(eviction) 횟수를 기록 -> 액추에이터가 cache.* 메트릭으로 노출
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache(ARTICLE_CACHE, cacheFactory.build(Caffeine.newBuilder()
+                .maximumSize(articleMaximumSize)
+                .expireAfterWrite(articleExpireAfterWrite)
+                .recordStats()));
+        cacheManager.registerCustomCache(USER_CACHE, cacheFactory.build(Caffeine.newBuilder()
+                .maximumSize(userMaximumSize)
+                .expireAfterWrite(userExpireAfterWrite)
+                .recordStats()));
+
+        // 트랜잭션 안에서 발생한 put/evict는 커밋된 뒤에 반영 -> 커밋 전에 캐시를 지웠다가 이전 값이 다시 채워지는 일을 막음
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,48 @@
+package me.nyungnim.blog.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import me.nyungnim.blog.config.metrics.QueryStats;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+
+/** Caffeine 캐시 생성
+ * 캐시에 값이 없을 때 Caffeine은 내부 ConcurrentHashMap의 synchronized 블록 안에서 값을 불러옴(DB 조회)
+ * 가상 스레드는 synchronized 안에서 블로킹되면 캐리어 스레드를 붙잡고 있게 됨(pinning)
+ * -> 가상 스레드 모드에서는 비동기 캐시를 만들어 값을 별도의 가상 스레드(applicationTaskExecutor)에서 불러오고,
+ *    요청 스레드는 synchronized 밖에서 결과를 기다림 (같은 키를 동시에 조회하면 한 번만 불러오는 것은 같음)
+ * -> 플랫폼 스레드 모드에서는 기존처럼 요청 스레드에서 바로 불러옴
+ * 가상 스레드 모드에서 값을 불러오는 스레드는 요청 스레드가 아니므로
+ * - 요청별 SQL 집계(QueryStats)는 QueryStats.propagate()로 넘겨서 요청의 값에 더함
+ * - 요청의 트랜잭션, OSIV 영속성 컨텍스트는 넘어가지 않음 -> 조회는 별도의 커넥션, 트랜잭션에서 실행되고
+ *   호출한 트랜잭션의 커밋 전 변경은 보이지 않음, 불러온 엔티티는 준영속이라 지연 로딩할 수 없음
+ *   -> 캐시에는 연관 관계가 없는 값(ArticleSnapshot, User, 목록 프로젝션)만 저장
+ */
+
+@Component
+public class CaffeineCacheFactory {
+
+    private final Executor loadingExecutor;
+
+    public CaffeineCacheFactory(Environment environment,
+                                @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                Executor applicationTaskExecutor) {
+        this.loadingExecutor = Threading.VIRTUAL.isActive(environment)
+                ? task -> applicationTaskExecutor.execute(QueryStats.propagate(task))
+                : null;
+    }
+
+    public <K, V> Cache<K, V> build(Caffeine<Object, Object> builder) {
+        if (loadingExecutor == null) {
+            return builder.build();
+        }
+        return builder.executor(loadingExecutor)
+                .<K, V>buildAsync()
+                .synchronous();
+    }
+}
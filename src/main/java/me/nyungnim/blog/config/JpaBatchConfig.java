@@ -0,0 +1,23 @@
+package me.nyungnim.blog.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaBatchConfig {
+
+    // 하이버네이트 JDBC 배치 설정
+    // - batch_size : INSERT/UPDATE를 batch_size개씩 모아서 한 번에 전송
+    // - order_inserts/order_updates : 엔티티 종류별로 정렬해서 같은 SQL끼리 배치로 묶이도록 함
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${blog.jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,72 @@
+package me.nyungnim.blog.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import me.nyungnim.blog.config.metrics.CacheMetrics;
+import me.nyungnim.blog.config.metrics.JdbcTimingSessionListener;
+import me.nyungnim.blog.config.metrics.QueryCountingStatementInspector;
+import me.nyungnim.blog.config.metrics.QueryMetricsFilter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.Ordered;
+
+/** 메트릭 설정 : /actuator/prometheus로 노출
+ * - 엔드포인트별 응답 시간 : http.server.requests (스프링 부트 기본, uri/method/status별)
+ * - 서비스 메서드별 실행 시간 : @Timed("blog.service")를 붙인 클래스 (TimedAspect)
+ * - 요청별 SQL 수, JDBC 실행 시간 : QueryMetricsFilter + 하이버네이트 StatementInspector/SessionEventListener
+ * - 캐시 적중률 : cache.gets, cache.hit.ratio
+ * - 기본 설정(노출할 엔드포인트, 히스토그램)은 metrics.properties, application.yml에서 덮어쓸 수 있음
+ */
+
+@Configuration
+@PropertySource(value = "classpath:metrics.properties", encoding = "UTF-8")
+public class MetricsConfig {
+
+    // @Timed 애너테이션을 붙인 메서드/클래스의 실행 시간을 타이머로 기록
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    // 요청별 SQL 수 집계 : 하이버네이트가 SQL을 준비할 때마다 세고, 세션 이벤트로 실행 시간을 더함
+    @Bean
+    public HibernatePropertiesCustomizer queryMetricsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, QueryCountingStatementInspector.class.getName());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+        };
+    }
+
+    // 스프링 시큐리티 필터보다 먼저 실행 -> 로그인 사용자 조회 SQL도 요청에 포함
+    @Bean
+    public FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${blog.metrics.query-header.enabled:false}") boolean headerEnabled,
+            @Value("${blog.metrics.query-warn-threshold:20}") int warnThreshold) {
+        FilterRegistrationBean<QueryMetricsFilter> registration =
+                new FilterRegistrationBean<>(new QueryMetricsFilter(meterRegistry, headerEnabled, warnThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    // 캐시 매니저의 캐시(cache.gets 등)는 스프링 부트가 등록, 적중률만 추가
+    @Bean
+    public MeterBinder cacheHitRatioMetrics(CacheManager cacheManager) {
+        return registry -> {
+            for (String name : cacheManager.getCacheNames()) {
+                org.springframework.cache.Cache cache = cacheManager.getCache(name);
+                if (cache != null && cache.getNativeCache() instanceof Cache<?, ?> nativeCache) {
+                    CacheMetrics.hitRatio(registry, nativeCache, name);
+                }
+            }
+        };
+    }
+}
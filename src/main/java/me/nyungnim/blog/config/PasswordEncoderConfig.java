@@ -0,0 +1,85 @@
+package me.nyungnim.blog.config;
+
+import lombok.extern.slf4j.Slf4j;
+import me.nyungnim.blog.config.password.OffloadedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    // BCrypt 강도(cost)의 범위, 최소값은 BCryptPasswordEncoder의 기본값
+    // 강도가 1 올라갈 때마다 해시 시간이 2배가 됨
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 16;
+    // 측정 전에 JIT 컴파일이 끝나도록 낮은 강도로 여러 번 실행, 측정은 여러 번 실행한 시간의 중앙값 사용
+    private static final int WARMUP_STRENGTH = 4;
+    private static final int WARMUP_RUNS = 50;
+    private static final int MEASURE_RUNS = 5;
+
+    // 패스워드 인코더로 사용할 빈 등록
+    // blog.password.strength를 지정하면 그 강도를 사용 -> 여러 서버가 같은 강도로 저장하도록 운영 환경에서는 지정 권장
+    // 지정하지 않으면 시작할 때 현재 하드웨어에서 해시 한 번이 목표 시간에 가깝게 걸리는 강도를 측정해서 사용
+    // (서버마다 측정 결과가 다르면 로그인할 때 저장된 해시를 서로 다른 강도로 다시 저장하게 됨)
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${blog.password.strength:0}") int configuredStrength,
+            @Value("${blog.password.target-hash-time:100ms}") Duration targetHashTime,
+            @Value("${blog.password.threads:0}") int threads,
+            @Value("${blog.password.queue-capacity:100}") int queueCapacity) {
+        int strength = selectStrength(configuredStrength, targetHashTime);
+        // 스레드 수를 지정하지 않으면 코어의 절반만 사용 -> 나머지 코어는 다른 요청을 처리
+        int hashingThreads = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        log.info("BCrypt strength {} {}, {} hashing threads", strength,
+                configuredStrength > 0 ? "configured" : "selected for target hash time " + targetHashTime, hashingThreads);
+
+        return new OffloadedPasswordEncoder(new BCryptPasswordEncoder(strength), hashingThreads, queueCapacity);
+    }
+
+    // 지정한 강도(0이면 지정하지 않음), 지정하지 않았으면 측정한 강도
+    static int selectStrength(int configuredStrength, Duration targetHashTime) {
+        if (configuredStrength <= 0) {
+            return calibrateStrength(targetHashTime);
+        }
+        if (configuredStrength < MIN_STRENGTH || configuredStrength > MAX_STRENGTH) {
+            throw new IllegalArgumentException("blog.password.strength must be between "
+                    + MIN_STRENGTH + " and " + MAX_STRENGTH + ": " + configuredStrength);
+        }
+        return configuredStrength;
+    }
+
+    // 최소 강도로 여러 번 측정한 시간의 중앙값을 기준으로 목표 시간을 넘지 않는 가장 높은 강도를 계산
+    // 한 번만 측정하면 GC, 다른 스레드의 영향으로 재시작할 때마다 강도가 달라질 수 있음
+    static int calibrateStrength(Duration targetHashTime) {
+        // 클래스 로딩, JIT 컴파일은 측정에서 제외 -> 같은 코드를 낮은 강도로 반복 실행해서 미리 끝냄
+        BCryptPasswordEncoder warmup = new BCryptPasswordEncoder(WARMUP_STRENGTH);
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            warmup.encode("calibration");
+        }
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MIN_STRENGTH);
+        encoder.encode("calibration");
+        long[] samples = new long[MEASURE_RUNS];
+        for (int i = 0; i < MEASURE_RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        long elapsed = Math.max(1, samples[MEASURE_RUNS / 2]);
+
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && elapsed * 2 <= targetHashTime.toNanos()) {
+            strength++;
+            elapsed *= 2;
+        }
+        return strength;
+    }
+}
@@ -0,0 +1,100 @@
+package me.nyungnim.blog.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/** R2DBC 읽기 API(/rx/api/articles) 설정, blog.reactive.enabled=true일 때만 사용 (기본값은 사용하지 않음)
+ * - 사용하지 않으면 이 설정이 없으므로 JDBC DataSource, SQL 초기화는 스프링부트 자동 설정 그대로
+ * - ConnectionFactory 빈이 있으면 스프링부트의 DataSource 자동 설정이 꺼지므로 사용할 때는 JDBC DataSource도 여기서 직접 등록
+ *   (spring.datasource.*, spring.datasource.hikari.* 설정은 자동 설정과 같게 적용)
+ * - SQL 초기화(data.sql)는 R2DBC가 아니라 JDBC DataSource로 실행 -> JPA 스키마 생성 뒤에 실행하는 순서(defer) 유지
+ * - R2DBC 커넥션 풀과 DatabaseClient를 빈으로 등록, 헬스 체크(r2dbc), 풀 메트릭(r2dbc.pool.*)은 자동 설정이 만듦
+ * - spring.r2dbc.url이 없으면 JDBC와 같은 H2 데이터베이스에 연결
+ * - R2DBC 자동 설정, R2DBC 트랜잭션 매니저 자동 설정은 제외(BlogApplication) -> @Transactional은 JPA 트랜잭션 매니저만 사용
+ */
+
+@Configuration
+@ConditionalOnProperty(name = "blog.reactive.enabled", havingValue = "true")
+@EnableConfigurationProperties({DataSourceProperties.class, R2dbcProperties.class, SqlInitializationProperties.class})
+public class R2dbcConfig {
+
+    private static final String H2_JDBC_PREFIX = "jdbc:h2:";
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    // spring.sql.init.* 설정으로 JDBC DataSource에서 스크립트 실행
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(
+            DataSource dataSource, SqlInitializationProperties properties) {
+        return new SqlDataSourceScriptDatabaseInitializer(dataSource, properties);
+    }
+
+    // 애플리케이션이 종료될 때 풀의 커넥션을 모두 닫음
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool connectionFactory(R2dbcProperties r2dbcProperties,
+                                           DataSourceProperties dataSourceProperties) {
+        ConnectionPoolConfiguration.Builder builder = ConnectionPoolConfiguration
+                .builder(createConnectionFactory(r2dbcProperties, dataSourceProperties))
+                .initialSize(r2dbcProperties.getPool().getInitialSize())
+                .maxSize(r2dbcProperties.getPool().getMaxSize());
+        if (r2dbcProperties.getPool().getMaxIdleTime() != null) {
+            builder.maxIdleTime(r2dbcProperties.getPool().getMaxIdleTime());
+        }
+        return new ConnectionPool(builder.build());
+    }
+
+    @Bean
+    public DatabaseClient databaseClient(ConnectionFactory connectionFactory) {
+        return DatabaseClient.create(connectionFactory);
+    }
+
+    private static ConnectionFactory createConnectionFactory(R2dbcProperties r2dbcProperties,
+                                                             DataSourceProperties properties) {
+        String r2dbcUrl = r2dbcProperties.getUrl();
+        if (r2dbcUrl != null && !r2dbcUrl.isBlank()) {
+            ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbcUrl).mutate();
+            if (r2dbcProperties.getUsername() != null) {
+                options.option(ConnectionFactoryOptions.USER, r2dbcProperties.getUsername());
+            }
+            if (r2dbcProperties.getPassword() != null) {
+                options.option(ConnectionFactoryOptions.PASSWORD, r2dbcProperties.getPassword());
+            }
+            return ConnectionFactories.get(options.build());
+        }
+
+        String jdbcUrl = properties.determineUrl();
+        if (jdbcUrl == null || !jdbcUrl.startsWith(H2_JDBC_PREFIX)) {
+            throw new IllegalStateException("spring.r2dbc.url must be set for datasource " + jdbcUrl);
+        }
+        return new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(jdbcUrl.substring(H2_JDBC_PREFIX.length()))
+                .username(Objects.requireNonNullElse(properties.determineUsername(), ""))
+                .password(Objects.requireNonNullElse(properties.determinePassword(), ""))
+                .build());
+    }
+}
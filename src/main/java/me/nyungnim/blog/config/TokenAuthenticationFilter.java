@@ -1,24 +1,35 @@
 package me.nyungnim.blog.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import me.nyungnim.blog.config.jwt.TokenProvider;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
     private final static String HEADER_AUTHORIZATION = "Authorization";
     private final static String TOKEN_PREFIX = "Bearer ";
 
+    // 토큰 검증 시간(jwt.verify), 결과별로 나눠 기록 -> 검증 캐시 적중 여부에 따라 분포가 달라짐
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    public TokenAuthenticationFilter(TokenProvider tokenProvider, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.authenticatedTimer = verifyTimer(meterRegistry, "authenticated");
+        this.rejectedTimer = verifyTimer(meterRegistry, "rejected");
+    }
+
     protected void doFilterInternal(
             HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
         throws ServletException, IOException {
@@ -29,10 +40,21 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         String token = getAccessToken(authorizationHeader);
 
         // 가져온 토큰이 유효한지 확인하고, 유효한 때는 인증 정보 설정
-        if (tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
+        // 검증과 Claims 파싱을 한 번에 수행, 이미 검증한 토큰이면 검증 캐시의 인증 객체를 사용
+        // 토큰이 없는 요청은 검증하지 않으므로 기록하지 않음
+        Authentication authentication = null;
+        if (token != null) {
+            long start = System.nanoTime();
+            authentication = tokenProvider.authenticate(token);
+            (authentication != null ? authenticatedTimer : rejectedTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (authentication != null) {
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
+
+        // 다음 필터로 요청을 넘김
+        filterChain.doFilter(request, response);
     }
 
 
@@ -42,4 +64,11 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
         }
         return null;
     }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("jwt.verify")
+                .description("JWT signature and claims verification time")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
 }
@@ -0,0 +1,99 @@
+package me.nyungnim.blog.config.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import me.nyungnim.blog.config.metrics.CacheMetrics;
+import me.nyungnim.blog.util.HashUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Supplier;
+
+/** 검증된 토큰 캐시
+ * 같은 액세스 토큰이 여러 번 전달되어도 서명 검증, Claims 파싱을 토큰마다 한 번만 하도록 인증 객체를 저장
+ * - 키 : 비밀키 + 토큰의 SHA-256 해시 -> 원본 토큰을 키로 보관하지 않고, 비밀키가 바뀌면 이전 항목은 더 이상 조회되지 않음
+ * - 만료 : 토큰의 만료 시간(exp)과 최대 보관 시간 중 빠른 시점에 제거 -> 만료된 토큰이 캐시로 인증되는 일이 없음
+ * - jwt.cache.enabled=false로 캐시를 끌 수 있음
+ */
+
+@Component
+public class TokenAuthenticationCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final Cache<String, CachedAuthentication> cache;
+
+    public TokenAuthenticationCache(@Value("${jwt.cache.enabled:true}") boolean enabled,
+                                    @Value("${jwt.cache.maximum-size:100000}") long maximumSize,
+                                    @Value("${jwt.cache.max-ttl:10m}") Duration maxTtl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry(maxTtl.toNanos()))
+                .recordStats()
+                .build();
+    }
+
+    // 캐시에 있으면 저장된 인증 객체를 반환, 없으면 loader로 검증한 뒤 저장
+    // loader가 null을 반환하면(유효하지 않은 토큰) 저장하지 않고 null 반환
+    public Authentication get(String secretKey, String token, Supplier<CachedAuthentication> loader) {
+        if (!enabled) {
+            CachedAuthentication loaded = loader.get();
+            return loaded != null ? loaded.authentication() : null;
+        }
+
+        CachedAuthentication cached = cache.get(HashUtil.sha256Hex(secretKey + "\n" + token), key -> loader.get());
+        if (cached == null || cached.isExpired()) {
+            return null;
+        }
+        return cached.authentication();
+    }
+
+    // 적중률 등 캐시 통계
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    // 적중률 등 캐시 통계를 메트릭으로 노출 (cache=tokenAuthentication)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CacheMetrics.monitor(registry, cache, "tokenAuthentication");
+    }
+
+    // 인증 객체와 토큰 만료 시간(exp)
+    public record CachedAuthentication(Authentication authentication, Date expiration) {
+
+        boolean isExpired() {
+            return expiration != null && expiration.getTime() <= System.currentTimeMillis();
+        }
+    }
+
+    // 항목마다 토큰의 남은 유효 시간만큼만 캐시에 보관
+    private record TokenExpiry(long maxTtlNanos) implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            if (value.expiration() == null) {
+                return maxTtlNanos;
+            }
+            long remainingNanos = Duration.ofMillis(value.expiration().getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
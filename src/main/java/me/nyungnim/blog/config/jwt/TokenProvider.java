@@ -1,7 +1,9 @@
 package me.nyungnim.blog.config.jwt;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.RequiredArgsConstructor;
@@ -20,18 +22,31 @@ import java.util.Set;
 @Service
 public class TokenProvider {
 
+    // 모든 사용자에게 기본 권한 ROLE_USER를 부여
+    // Spring Security에서는 권한을 표현할 때 GrantedAuthority 인터페이스를 사용, SimpleGrantedAuthority는 이를 구현한 클래스, 중복허용x -> Set 인터페이스
+    // Collections.singleton : Set을 생성하는 편의 메서드, 하나의 원소만 가지는 불변 Set을 만듬
+    // 불변 Set이므로 요청마다 새로 만들지 않고 하나를 공유
+    private static final Set<SimpleGrantedAuthority> USER_AUTHORITIES =
+            Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+
     private final JwtProperties jwtProperties;
+    private final TokenAuthenticationCache tokenAuthenticationCache;
 
 
     // 사용자 정보와 만료기간을 받아 토큰 생성
     public String generateToken(User user, Duration expiredAt) {
+        return generateToken(user.getId(), user.getEmail(), expiredAt);
+    }
+
+    // 사용자 엔티티 없이 토큰에 필요한 사용자 id, email만으로 토큰 생성
+    public String generateToken(Long userId, String email, Duration expiredAt) {
         Date now = new Date();
         // makeToken 메서드를 호출해 토큰 생성
-        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), user);
+        return makeToken(new Date(now.getTime() + expiredAt.toMillis()), userId, email);
     }
 
     // JWT 토큰 생성 메서드 : 인자로 만료시간, 유저 정보를 받음
-    private String makeToken(Date expiry, User user) {
+    private String makeToken(Date expiry, Long userId, String email) {
         Date now = new Date();
 
         // JWT 구성요소
@@ -41,40 +56,64 @@ public class TokenProvider {
                 .setIssuer(jwtProperties.getIssuer())   // iss : 토큰 발급자 정보
                 .setIssuedAt(now)   // 내용 iat : 현재 시간, 토큰 발급 시간
                 .setExpiration(expiry)  // 내용 exp : expiry 멤버 변숫값, 토큰 만료 시간
-                .setSubject(user.getEmail())    // 내용 sub : 유저의 이메일, 사용자 식별 정보
-                .claim("id", user.getId())  // 클레임 id : 유저 ID
+                .setSubject(email)    // 내용 sub : 유저의 이메일, 사용자 식별 정보
+                .claim("id", userId)  // 클레임 id : 유저 ID
                 // 서명 : 비밀값과 함께 해시값을 HS256 방식으로 암호화, 비밀키를 이용
                 .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey())
                 // 최종적으로 토큰을 Base64 URL-safe 형식으로 인코딩하여 문자열 반환
                 .compact();
     }
 
-    // JWT 토큰 유효성 검증 메서드
-    public boolean validToken(String token) {
+    // JWT 토큰 검증 + Claims 파싱을 한 번에 수행하는 메서드
+    // 서명 검증(HMAC)과 JSON 파싱을 한 번만 하고, 결과(Claims 또는 실패 이유)를 반환
+    public TokenVerification verify(String token) {
+        // 토큰이 없으면 파서를 거치지 않고 바로 반환 -> 예외 생성 비용을 줄임
+        if (token == null || token.isBlank()) {
+            return TokenVerification.missing();
+        }
         try {
-            Jwts.parser()
-                    .setSigningKey(jwtProperties.getSecretKey())    // 비밀값으로 복호화
-                    // 서명 및 만료 기간 검증, 예외 발생 시(서명이 유효하지 않거나 만료된 경우) false 반환
-                    .parseClaimsJws(token);
-            return true;
-        } catch(Exception e) {  // 복호화 과정에서 에러가 나면 유효하지 않은 토큰
-            return false;
+            return TokenVerification.valid(getClaims(token));
+        } catch (ExpiredJwtException e) {   // 만료 기간이 지난 토큰
+            return TokenVerification.expired();
+        } catch (JwtException | IllegalArgumentException e) {  // 서명이 유효하지 않거나 형식이 잘못된 토큰
+            return TokenVerification.invalid();
         }
     }
 
+    // JWT 토큰 유효성 검증 메서드
+    public boolean validToken(String token) {
+        // 서명 및 만료 기간 검증, 검증에 실패하면(서명이 유효하지 않거나 만료된 경우) false 반환
+        return verify(token).isValid();
+    }
+
     // JWT 토큰을 기반으로 Spring Security 인증 객체 생성
     public Authentication getAuthentication(String token) {
         // Claims -> 사용자 정보 담겨있음, getClaims 메서드 호출 -> 토큰에서 Claims(Payload 부분)를 가져옴
-        Claims claims = getClaims(token);
-        // 모든 사용자에게 기본 권한 ROLE_USER를 부여
-        // Spring Security에서는 권한을 표현할 때 GrantedAuthority 인터페이스를 사용, SimpleGrantedAuthority는 이를 구현한 클래스, 중복허용x -> Set 인터페이스
-        // Collections.singleton : Set을 생성하는 편의 메서드, 하나의 원소만 가지는 불변 Set을 만듬
-        Set<SimpleGrantedAuthority> authorities = Collections.singleton(new SimpleGrantedAuthority("ROLE_USER"));
+        return getAuthentication(getClaims(token), token);
+    }
 
+    // 토큰을 검증하고 인증 객체를 반환, 유효하지 않은 토큰이면 null
+    // 이미 검증한 토큰이면 검증 캐시에서 바로 반환 -> 같은 토큰을 반복해서 검증하지 않음
+    public Authentication authenticate(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        return tokenAuthenticationCache.get(jwtProperties.getSecretKey(), token, () -> {
+            TokenVerification verification = verify(token);
+            if (!verification.isValid()) {
+                return null;
+            }
+            Claims claims = verification.getClaims();
+            return new TokenAuthenticationCache.CachedAuthentication(getAuthentication(claims, token),
+                    claims.getExpiration());
+        });
+    }
+
+    // 이미 검증해서 파싱한 Claims로 Spring Security 인증 객체 생성 -> 토큰을 다시 파싱하지 않음
+    public Authentication getAuthentication(Claims claims, String token) {
         // 3가지 정보(사용자 정보, 인증 자격 증명(여기서는 빈 문자열), 사용자 권한 목록) 포함
         return new UsernamePasswordAuthenticationToken(new org.springframework.security.core.userdetails.User(claims.getSubject(),
-                "", authorities), token, authorities);
-
+                "", USER_AUTHORITIES), token, USER_AUTHORITIES);
     }
 
     // 토큰 기반으로 유저 ID를 가져오는 메서드
@@ -0,0 +1,51 @@
+package me.nyungnim.blog.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 토큰 검증 결과
+ * 서명/만료 검증과 Claims 파싱을 한 번에 수행한 결과를 담음
+ * - 검증에 성공하면 status가 VALID이고 claims에 파싱된 Payload가 들어있음
+ * - 실패하면 실패 이유(status)만 담고 claims는 null
+ */
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public class TokenVerification {
+
+    public enum Status {
+        VALID,      // 서명, 만료 기간 모두 유효
+        MISSING,    // 토큰이 없음
+        EXPIRED,    // 만료된 토큰
+        INVALID     // 서명이 맞지 않거나 형식이 잘못된 토큰
+    }
+
+    private static final TokenVerification MISSING = new TokenVerification(Status.MISSING, null);
+    private static final TokenVerification EXPIRED = new TokenVerification(Status.EXPIRED, null);
+    private static final TokenVerification INVALID = new TokenVerification(Status.INVALID, null);
+
+    private final Status status;
+    private final Claims claims;
+
+    public static TokenVerification valid(Claims claims) {
+        return new TokenVerification(Status.VALID, claims);
+    }
+
+    public static TokenVerification missing() {
+        return MISSING;
+    }
+
+    public static TokenVerification expired() {
+        return EXPIRED;
+    }
+
+    public static TokenVerification invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+}
@@ -0,0 +1,27 @@
+package me.nyungnim.blog.config.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Caffeine 캐시 메트릭 등록 도우미
+public final class CacheMetrics {
+
+    private CacheMetrics() {
+    }
+
+    // 캐시 매니저 밖에서 직접 만든 캐시 : cache.gets(hit/miss), cache.evictions 등 + 적중률
+    public static void monitor(MeterRegistry registry, Cache<?, ?> cache, String name) {
+        CaffeineCacheMetrics.monitor(registry, cache, name);
+        hitRatio(registry, cache, name);
+    }
+
+    // 적중률(0~1), recordStats()로 만든 캐시만 값이 있음
+    public static void hitRatio(MeterRegistry registry, Cache<?, ?> cache, String name) {
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Cache hit ratio since startup")
+                .tag("cache", name)
+                .register(registry);
+    }
+}
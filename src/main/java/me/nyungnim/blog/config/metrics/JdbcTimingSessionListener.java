@@ -0,0 +1,38 @@
+package me.nyungnim.blog.config.metrics;
+
+import org.hibernate.SessionEventListener;
+
+// 하이버네이트 세션마다 하나씩 생성되는 이벤트 리스너, SQL/배치 실행에 걸린 시간을 요청별로 더함
+// 세션은 한 스레드에서만 사용하므로 시작 시각을 필드에 저장해도 됨
+public class JdbcTimingSessionListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        addJdbcTime(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        addJdbcTime(batchStart);
+    }
+
+    private static void addJdbcTime(long start) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.addJdbcTime(System.nanoTime() - start);
+        }
+    }
+}
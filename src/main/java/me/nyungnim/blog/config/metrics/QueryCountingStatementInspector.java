@@ -0,0 +1,17 @@
+package me.nyungnim.blog.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 하이버네이트가 SQL을 준비(prepare)할 때마다 호출됨 -> 요청별 SQL 수를 셈, SQL은 바꾸지 않고 그대로 반환
+// N+1 문제나 같은 글을 여러 번 조회(findById)하는 코드가 있으면 요청별 SQL 수가 늘어남
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryStats stats = QueryStats.current();
+        if (stats != null) {
+            stats.incrementQueryCount();
+        }
+        return sql;
+    }
+}
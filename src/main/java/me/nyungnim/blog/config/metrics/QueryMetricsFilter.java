@@ -0,0 +1,107 @@
+package me.nyungnim.blog.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/** 요청별 SQL 수, JDBC 실행 시간 집계
+ * - blog.request.queries : 요청 하나에서 실행한 SQL 수 (uri, method별 분포)
+ * - blog.request.jdbc : 요청 하나에서 SQL 실행에 걸린 시간 합계 (uri, method별 분포)
+ * - SQL 수가 warnThreshold를 넘으면 경고 로그 -> N+1 문제 확인용
+ * - headerEnabled(개발 모드)이면 응답 헤더 X-Query-Count, X-Query-Time(ms)으로 전달
+ *   헤더는 응답이 커밋되기 전까지 실행한 SQL만 셈(뷰 렌더링 중 지연 로딩 등은 메트릭에만 포함)
+ */
+
+@Slf4j
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time";
+    // 컨트롤러에 매핑되지 않은 요청(정적 리소스, 로그인 리다이렉트 등)의 uri 태그, 태그 값 종류가 무한히 늘지 않도록 묶음
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headerEnabled;
+    private final int warnThreshold;
+
+    public QueryMetricsFilter(MeterRegistry meterRegistry, boolean headerEnabled, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.headerEnabled = headerEnabled;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryStats stats = QueryStats.start();
+        QueryHeaderResponse headerResponse = headerEnabled ? new QueryHeaderResponse(response, stats) : null;
+        try {
+            filterChain.doFilter(request, headerResponse != null ? headerResponse : response);
+        } finally {
+            QueryStats.clear();
+            if (headerResponse != null) {
+                headerResponse.writeHeaders();
+            }
+            record(request, stats);
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryStats stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        DistributionSummary.builder("blog.request.queries")
+                .description("SQL statements executed per request")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(stats.getQueryCount());
+        Timer.builder("blog.request.jdbc")
+                .description("Time spent executing SQL per request")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getQueryCount() > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements", method, uri, stats.getQueryCount());
+        }
+    }
+
+    // 응답이 커밋되기 직전(본문을 쓰기 시작할 때)에 헤더를 씀, 커밋 후에는 헤더를 추가할 수 없기 때문
+    private static class QueryHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final QueryStats stats;
+
+        QueryHeaderResponse(HttpServletResponse response, QueryStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setHeader(QUERY_COUNT_HEADER, String.valueOf(stats.getQueryCount()));
+            setHeader(QUERY_TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos())));
+            disableOnResponseCommitted();
+        }
+
+        // 필터 체인이 끝날 때까지 커밋되지 않았으면(본문이 버퍼에만 있음) 여기서 씀
+        void writeHeaders() {
+            if (!isDisableOnResponseCommitted() && !isCommitted()) {
+                onResponseCommitted();
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package me.nyungnim.blog.config.metrics;
+
+/** 요청 하나에서 실행한 SQL 수와 JDBC 실행 시간
+ * - 요청을 처리하는 스레드에 묶어둠(ThreadLocal), QueryMetricsFilter가 요청 시작 시 만들고 끝나면 제거
+ * - 요청 밖(@Async, @Scheduled 등 다른 스레드)에서 실행한 SQL은 집계하지 않음
+ * - 요청 스레드가 끝날 때까지 기다리는 작업(비동기 캐시 로딩)은 propagate()로 감싸 요청의 값에 더함
+ */
+public final class QueryStats {
+
+    private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+    private int queryCount;
+    private long jdbcNanos;
+
+    private QueryStats() {
+    }
+
+    static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    // 현재 스레드에서 집계 중인 값, 요청 밖이면 null
+    static QueryStats current() {
+        return CURRENT.get();
+    }
+
+    // 현재 스레드의 집계 값을 task를 실행하는 스레드에서도 사용하도록 감쌈, 요청 밖이면 task를 그대로 반환
+    // 값은 동기화하지 않으므로 호출한 스레드가 task가 끝날 때까지 기다리는 경우에만 사용
+    public static Runnable propagate(Runnable task) {
+        QueryStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            QueryStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    void incrementQueryCount() {
+        queryCount++;
+    }
+
+    void addJdbcTime(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    public int getQueryCount() {
+        return queryCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+}
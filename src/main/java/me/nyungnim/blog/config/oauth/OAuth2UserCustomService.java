@@ -1,8 +1,13 @@
 package me.nyungnim.blog.config.oauth;
 
 import lombok.RequiredArgsConstructor;
+import me.nyungnim.blog.config.CacheConfig;
 import me.nyungnim.blog.domain.User;
 import me.nyungnim.blog.domain.repository.UserRepository;
+import me.nyungnim.blog.dto.UserSnapshot;
+import me.nyungnim.blog.service.UserDetailService;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -10,11 +15,15 @@ import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 public class OAuth2UserCustomService extends DefaultOAuth2UserService {
     private final UserRepository userRepository;
+    private final UserDetailService userDetailService;
+    private final CacheManager cacheManager;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws
@@ -26,16 +35,31 @@ public class OAuth2UserCustomService extends DefaultOAuth2UserService {
     }
 
     // 유저가 있으면 업데이트, 없으면 유저 생성
-    private User saveOrUpdate(OAuth2User oAuth2User) {
+    // 이름이 바뀌었는지는 캐시된 사용자 정보(UserSnapshot)로 확인 -> 바뀌지 않았으면 DB를 조회하지도, 저장(UPDATE)하지도 않음
+    // 로그인이 몰려도 users 테이블 읽기, 쓰기가 늘어나지 않고 저장이 필요할 때만 엔티티를 조회
+    private void saveOrUpdate(OAuth2User oAuth2User) {
         Map<String, Object> attributes = oAuth2User.getAttributes();
         String email = (String) attributes.get("email");
         String name = (String) attributes.get("name");
-        User user = userRepository.findByEmail(email)
-                .map(entity -> entity.update(name))
-                .orElse(User.builder()
-                        .email(email)
-                        .nickname(name)
-                        .build());
-        return userRepository.save(user);
+        Optional<UserSnapshot> cached = userDetailService.findByEmail(email);
+        if (cached.isPresent() && Objects.equals(cached.get().getNickname(), name)) {
+            return;
+        }
+
+        Optional<User> found = userRepository.findByEmail(email);
+        if (found.isEmpty()) {
+            userRepository.save(User.builder()
+                    .email(email)
+                    .nickname(name)
+                    .build());
+            return;
+        }
+
+        userRepository.save(found.get().update(name));
+        // 캐시된 사용자 정보에 이전 이름이 남아있지 않도록 제거
+        Cache userCache = cacheManager.getCache(CacheConfig.USER_CACHE);
+        if (userCache != null) {
+            userCache.evict(email);
+        }
     }
 }
@@ -0,0 +1,15 @@
+package me.nyungnim.blog.config.password;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 비밀번호 해시 작업 대기열이 가득 차서 요청을 처리할 수 없을 때 발생하는 예외 -> 503 Service Unavailable
+// 로그인 중에 발생하면 인증 실패 핸들러가, 회원 가입 중에 발생하면 @ResponseStatus가 503으로 응답
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -1,24 +1,49 @@
 package me.nyungnim.blog.controller;
 
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.repository.ArticleValidators;
 import me.nyungnim.blog.dto.AddArticleRequest;
+import me.nyungnim.blog.dto.ArticlePage;
 import me.nyungnim.blog.dto.ArticleResponse;
+import me.nyungnim.blog.dto.ArticleSearchResponse;
+import me.nyungnim.blog.dto.ArticleSnapshot;
+import me.nyungnim.blog.dto.ArticleViewCountResponse;
+import me.nyungnim.blog.dto.BatchArticleResult;
+import me.nyungnim.blog.dto.DeleteArticlesRequest;
+import me.nyungnim.blog.dto.DeleteArticlesResponse;
+import me.nyungnim.blog.dto.PopularArticleResponse;
 import me.nyungnim.blog.dto.UpdateArticleRequest;
+import me.nyungnim.blog.service.ArticleVersionConflictException;
 import me.nyungnim.blog.service.BlogService;
+import me.nyungnim.blog.service.PopularArticles;
+import me.nyungnim.blog.util.ETagUtil;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RequiredArgsConstructor    // final이 붙은 필드를 매개변수로 받는 생성자 자동 생성, 의존성을 생성자 주입 방식으로 설정 가능 ex: BlogService를 자동으로 주입받는 생성자 추가
 @RestController // HTTP Response Body에 객체 데이터를 JSON 형식으로 반환하는 컨트롤러
 public class BlogApiController {
 
+    // 줄 단위 JSON(NDJSON) 미디어 타입, 한 줄에 글 하나씩 JSON 객체로 내보냄
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     // 서비스 계층 객체를 주입 받아 사용
     private final BlogService blogService;
+    private final ObjectMapper objectMapper;
 
 
     // 클라이언트에서 새로운 블로그 글을 추가하는 요청
@@ -35,26 +60,128 @@ public class BlogApiController {
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(savedArticle);
     }
+    // 여러 글을 한 번에 추가하는 요청, 항목별 저장 결과를 요청 순서대로 반환
+    // 모두 저장되면 201 Created, 일부라도 실패하면 207 Multi-Status
+    // 한 번에 MAX_BATCH_SIZE개를 넘게 보내면 하나도 저장하지 않고 413 Payload Too Large -> 나눠서 다시 요청
+    @PostMapping("/api/articles/batch")
+    public ResponseEntity<List<BatchArticleResult>> addArticles(@RequestBody List<AddArticleRequest> requests) {
+        if (requests.size() > BlogService.MAX_BATCH_SIZE) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+        List<BatchArticleResult> results = blogService.saveAll(requests);
+
+        boolean allCreated = results.stream().allMatch(BatchArticleResult::isCreated);
+        return ResponseEntity.status(allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS)
+                .body(results);
+    }
+
     // 과정 정리 :JSON 데이터 -> DTO 객체로 매핑 -> DTO를 엔터티로 변환 -> 데이터베이스에 저장 -> 요청 성공 HTTP 상태코드 & 저장된 엔터티를 JSON으로 클라이언트에 반환
 
     @GetMapping("/api/articles")
     // 응답 본문에 ArticleResponse(DTO) 객체들의 리스트 포함
-    public ResponseEntity<List<ArticleResponse>> findAllArticles() {
-        List<ArticleResponse> articles = blogService.findAll()
-                .stream()  // 조회된 엔터티 리스트를 Stream으로 변환하여 데이터를 가공할 준비
-                .map(ArticleResponse::new) // 생성자를 호출해 각 Article 엔티티를 ArticleResponse DTO로 변환 작업
-                .toList();  // Stream 작업을 통해 변환된 데이터를 다시 리스트로 변환
+    // 전체 글을 한 번에 내려주지 않고 커서 기반으로 size만큼만 조회, 다음 페이지 주소는 Link 헤더로 전달
+    public ResponseEntity<List<ArticleResponse>> findAllArticles(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size,
+            WebRequest webRequest) {
+        // 목록 ETag는 목록 버전으로 만듦 -> 목록이 바뀌지 않았으면 DB 조회 없이 304 Not Modified 응답
+        // 조회 전에 버전을 읽어야 조회 도중 글이 바뀌어도 이전 버전으로 표시됨(다음 요청 때 다시 받아감)
+        if (webRequest.checkNotModified(ETagUtil.articleList(blogService.listVersion()))) {
+            return null;    // 응답 상태와 헤더는 checkNotModified()가 설정
+        }
+
+        ArticlePage<ArticleResponse> page = blogService.findPage(cursor, size)
+                .map(ArticleResponse::new); // 생성자를 호출해 각 ArticleSummary 프로젝션을 ArticleResponse DTO로 변환 작업
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            String nextUrl = UriComponentsBuilder.fromPath("/api/articles")
+                    .queryParam("cursor", page.getNext())
+                    .queryParam("size", size)
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + nextUrl + ">; rel=\"next\"");
+        }
+        return response.body(page.getArticles());
+    }
+
+    // 인기 글 조회, 최근 1시간(1h) 또는 24시간(24h) 동안 조회수가 많은 순서
+    // 요청마다 집계하지 않고 메모리에 계산해둔 결과를 바로 반환
+    @GetMapping("/api/articles/popular")
+    public ResponseEntity<List<PopularArticleResponse>> findPopularArticles(
+            @RequestParam(value = "window", defaultValue = "1h") String window) {
+        PopularArticles.Window popularWindow = PopularArticles.Window.of(window);
+        if (popularWindow == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        return ResponseEntity.ok()
+                .body(blogService.findPopular(popularWindow));
+    }
+
+    // 글 검색, 제목과 본문에서 검색어(q)와 일치하는 글을 관련도 순으로 page번째 페이지(0부터)만 반환
+    @GetMapping("/api/articles/search")
+    public ResponseEntity<ArticleSearchResponse> searchArticles(
+            @RequestParam("q") String q,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size) {
         return ResponseEntity.ok()
-                .body(articles);
+                .body(blogService.search(q, page, size));
+    }
+
+    // 검색 색인 재구성, 백업처럼 전체 글이 필요한 경우를 위한 내보내기 API
+    // 전체 목록을 List로 만들지 않고, 조회한 묶음(chunk)을 바로 응답 스트림에 쓰고 flush -> 메모리 사용량 일정, 첫 바이트가 바로 전송됨
+    // 응답 시간이 긴 요청이라 비동기 요청 타임아웃에 걸리지 않도록 요청 스레드에서 직접 응답 본문을 씀
+    @GetMapping(value = "/api/articles/export", produces = APPLICATION_NDJSON_VALUE)
+    public void exportArticles(HttpServletResponse response) throws IOException {
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        OutputStream outputStream = response.getOutputStream();
+
+        blogService.exportAll(articles -> {
+            try {
+                for (Article article : articles) {
+                    long viewCount = article.getViewCount() + blogService.findPendingViewCount(article.getId());
+                    outputStream.write(objectMapper.writeValueAsBytes(new ArticleResponse(article, viewCount)));
+                    outputStream.write('\n');
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        outputStream.flush();
     }
 
     @GetMapping("/api/articles/{id}")
     // 매개변수 이름 손실 문제가 발생 -> @PathVariable 이름 명시적으로 변경
-    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") long id) {
-        Article article = blogService.findById(id);
+    // 조건부 요청이면 버전과 수정 시간만 조회해서 ETag/Last-Modified를 비교, 바뀌지 않았으면 본문 없이 304 Not Modified 응답
+    // 응답의 조회수는 이번 조회를 포함한 현재 값, ETag(id-버전)는 수정 요청의 If-Match에도 쓰므로 조회수를 넣지 않음
+    // -> 조회수만 바뀐 글은 304로 이전 응답을 그대로 사용, 최신 조회수만 필요하면 /views로 조회
+    public ResponseEntity<ArticleResponse> findArticle(@PathVariable("id") long id, WebRequest webRequest) {
+        if (ETagUtil.isConditional(webRequest)) {
+            ArticleValidators validators = blogService.findValidators(id);
+            if (webRequest.checkNotModified(ETagUtil.article(id, validators.getVersion()),
+                    ETagUtil.lastModified(validators.getUpdatedAt()))) {
+                blogService.increaseViewCount(id);  // 본문을 다시 받지 않아도 조회로 셈
+                return null;    // 응답 상태와 헤더는 checkNotModified()가 설정
+            }
+        }
+
+        ArticleSnapshot article = blogService.findById(id);
+        blogService.increaseViewCount(id);  // 글이 있는 것을 확인한 뒤에 셈
 
         return ResponseEntity.ok()
-                .body(new ArticleResponse(article));
+                .eTag(ETagUtil.article(article.getId(), article.getVersion()))
+                .lastModified(ETagUtil.lastModified(article.getUpdatedAt()))
+                .body(new ArticleResponse(article, blogService.findViewCount(id)));
+    }
+
+    // 글 조회수만 조회, 조건부 요청(304)으로 받은 글 응답의 조회수는 이전 값일 수 있으므로 최신 조회수가 필요할 때 사용
+    // 조회수 조회는 조회수에 포함하지 않음
+    @GetMapping("/api/articles/{id}/views")
+    public ResponseEntity<ArticleViewCountResponse> findArticleViewCount(@PathVariable("id") long id) {
+        return ResponseEntity.ok()
+                .body(new ArticleViewCountResponse(id, blogService.findViewCount(id)));
     }
 
     @DeleteMapping("/api/articles/{id}")
@@ -69,11 +196,67 @@ public class BlogApiController {
          */
     }
 
+    // 여러 글을 한 번에 삭제하는 요청, 삭제할 글의 id 목록을 본문으로 받음 ex) DELETE /api/articles {"ids": [1, 2, 3]}
+    // 글 수만큼 요청/쿼리를 보내지 않고 묶음 단위 DELETE로 삭제, 실제로 삭제된 글의 수를 반환
+    // 한 번에 MAX_BATCH_SIZE개를 넘게 보내면 하나도 삭제하지 않고 413 Payload Too Large
+    @DeleteMapping("/api/articles")
+    public ResponseEntity<DeleteArticlesResponse> deleteArticles(@RequestBody DeleteArticlesRequest request) {
+        List<Long> ids = request.getIds() == null ? List.of() : request.getIds();
+        if (ids.size() > BlogService.MAX_BATCH_SIZE) {
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).build();
+        }
+
+        int deleted = blogService.deleteAll(ids);
+
+        return ResponseEntity.ok()
+                .body(new DeleteArticlesResponse(deleted));
+    }
+
+    // 글 수정 요청, 읽었던 글의 버전을 If-Match 헤더(ETag)나 본문(version)으로 함께 보내야 함
+    // - 둘 다 없으면 428 Precondition Required : 다른 사용자의 수정을 모르고 덮어쓰지 않도록
+    // - If-Match가 있으면 전제 조건으로 먼저 확인, 현재 글의 ETag와 강한 비교로 일치하지 않으면 412 Precondition Failed
+    // - If-Match 없이 본문의 버전으로 수정할 때 그 사이에 다른 사용자가 먼저 수정했으면 409 Conflict
     @PutMapping("/api/articles/{id}")
-    public ResponseEntity<Article> updateArticle(@PathVariable("id") long id, @RequestBody UpdateArticleRequest request) {
-        Article updatedArticle = blogService.update(id, request);
+    public ResponseEntity<ArticleResponse> updateArticle(@PathVariable("id") long id,
+                                                         @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                         @RequestBody UpdateArticleRequest request) {
+        if (ifMatch != null) {
+            return updateArticleIfMatch(id, ifMatch, request);
+        }
+        if (request.getVersion() == null) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+        }
+
+        ArticleResponse updatedArticle = blogService.update(id, request.getVersion(), request);
+
+        return ResponseEntity.ok()
+                .eTag(ETagUtil.article(id, updatedArticle.getVersion()))
+                .body(updatedArticle);
+    }
+
+    // If-Match의 ETag가 가리키는 버전일 때만 수정
+    // *는 글이 있기만 하면 일치하지만 어떤 버전을 읽고 수정하는지 알 수 없어 덮어쓰기를 막을 수 없음
+    // -> 이 API는 버전 확인이 필수이므로 *, 약한 ETag, 형식이 다른 값은 일치하는 ETag가 없는 것으로 보고 412
+    private ResponseEntity<ArticleResponse> updateArticleIfMatch(long id, String ifMatch, UpdateArticleRequest request) {
+        List<Long> versions = ETagUtil.articleVersions(id, ifMatch);
+        if (versions.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        // ETag를 여러 개 보냈으면 그중 현재 버전이 있는지 확인
+        long version = versions.size() == 1 ? versions.get(0) : blogService.findValidators(id).getVersion();
+        if (!versions.contains(version)) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+
+        ArticleResponse updatedArticle;
+        try {
+            updatedArticle = blogService.update(id, version, request);
+        } catch (ArticleVersionConflictException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
 
         return ResponseEntity.ok()
+                .eTag(ETagUtil.article(id, updatedArticle.getVersion()))
                 .body(updatedArticle);
     }
 }
@@ -1,17 +1,19 @@
 package me.nyungnim.blog.controller;
 
 import lombok.RequiredArgsConstructor;
-import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.repository.ArticleValidators;
 import me.nyungnim.blog.dto.ArticleListViewResponse;
+import me.nyungnim.blog.dto.ArticlePage;
+import me.nyungnim.blog.dto.ArticleSnapshot;
 import me.nyungnim.blog.dto.ArticleViewResponse;
 import me.nyungnim.blog.service.BlogService;
+import me.nyungnim.blog.util.ETagUtil;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;    // Spring MVC에서 제공하는 Model 인터페이스의 경로
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RequiredArgsConstructor
 @Controller
@@ -21,31 +23,51 @@ public class BlogViewController {
 
     @GetMapping("/articles")
     // Model 객체는 컨트롤러에서 뷰로 데이터를 넘길 때 "키-쌍" 값으로 데이터를 추가한다.
-    public String getArticles(Model model) {
-        // 자바 stream api와 DTO 관점에서 보기, stream : 자바의 데이터 처리 api, 컬렉션 데이터를 필터링하거나 매핑(변환)하는 작업을 간결하게 처리 가능
-        List<ArticleListViewResponse> articles = blogService.findAll().stream()
-                // Stream의 각 Article 객체를 ArticleListViewResponse 클래스의 생성자를 참조하여 객체로 변환
-                .map(ArticleListViewResponse::new)
-                // 변환된 스트림 데이터를 다시 리스트로 변환 -> 자바 16이상에서 사용 가능
-                // 자바 8  사용 시 .collect(Collectors.toList())로 대체
-                .toList();
-        model.addAttribute("articles", articles);   // 블로그 글 리스트 저장
+    // cursor가 없으면 첫 페이지, 있으면 커서 이후의 글을 size만큼 보여줌
+    public String getArticles(@RequestParam(value = "cursor", required = false) String cursor,
+                              @RequestParam(value = "size", defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size,
+                              Model model, WebRequest webRequest) {
+        // 목록이 바뀌지 않았으면 렌더링하지 않고 304 Not Modified 응답
+        if (webRequest.checkNotModified(ETagUtil.articleList(blogService.listVersion()))) {
+            return null;
+        }
+
+        // 각 ArticleSummary 프로젝션을 ArticleListViewResponse 클래스의 생성자를 참조하여 객체로 변환
+        ArticlePage<ArticleListViewResponse> page = blogService.findPage(cursor, size)
+                .map(ArticleListViewResponse::new);
+        model.addAttribute("articles", page.getArticles());   // 블로그 글 리스트 저장
+        model.addAttribute("next", page.getNext());   // 다음 페이지 커서, 마지막 페이지면 null
+        model.addAttribute("size", size);
 
         // 뷰 리졸버가 articleList라는 이름의 템플릿(articleList.html 같은)을 찾아 렌더링한다.
         return "articleList";
     }
 
     @GetMapping("/articles/{id}")
-    public String getArticle(@PathVariable("id") long id, Model model) {
-        Article article = blogService.findById(id);
-        model.addAttribute("article", new ArticleViewResponse(article));
+    public String getArticle(@PathVariable("id") long id, Model model, WebRequest webRequest) {
+        // 조건부 요청이면 버전과 수정 시간만 조회해서 비교, 바뀌지 않았으면 렌더링하지 않고 304 Not Modified 응답
+        if (ETagUtil.isConditional(webRequest)) {
+            ArticleValidators validators = blogService.findValidators(id);
+            if (webRequest.checkNotModified(ETagUtil.articlePage(id, validators.getVersion()),
+                    ETagUtil.lastModified(validators.getUpdatedAt()))) {
+                blogService.increaseViewCount(id);  // 본문을 다시 받지 않아도 조회로 셈
+                return null;
+            }
+        }
+
+        ArticleSnapshot article = blogService.findById(id);
+        blogService.increaseViewCount(id);  // 글이 있는 것을 확인한 뒤에 셈
+        // 다음 요청에서 조건부 요청을 할 수 있도록 ETag, Last-Modified 헤더 설정
+        webRequest.checkNotModified(ETagUtil.articlePage(article.getId(), article.getVersion()),
+                ETagUtil.lastModified(article.getUpdatedAt()));
+        model.addAttribute("article", new ArticleViewResponse(article, blogService.findViewCount(id)));
 
         return "article";
     }
 
     /** 동작 방식
      * 1. 클라이언트가 /articles로 GET 요청을 보냄
-     * 2, 컨트롤러가 blogService.findAll()을 호출하여 블로그 글 데이터를 가져옴
+     * 2, 컨트롤러가 blogService.findPage()를 호출하여 한 페이지 분량의 블로그 글 데이터를 가져옴
      * 3. 가져온 데이터를 ArticleListViewResponse DTO로 반환
      * 4. 변환된 데이터 리스트를 Model 객체에 추가
      * 5. 뷰 이름 articleList를 반환하여 해당 뷰에서 데이터를 렌더링
@@ -59,7 +81,7 @@ public class BlogViewController {
         if (id == null) {   // id가 없으면 생성
             model.addAttribute("article", new ArticleViewResponse());
         } else {    // id가 있으면 수정
-            Article article = blogService.findById(id);
+            ArticleSnapshot article = blogService.findById(id);
             model.addAttribute("article", new ArticleViewResponse(article));
         }
         return "newArticle";
@@ -0,0 +1,69 @@
+package me.nyungnim.blog.controller;
+
+import lombok.RequiredArgsConstructor;
+import me.nyungnim.blog.domain.repository.ReactiveArticleRepository;
+import me.nyungnim.blog.dto.ArticleCursor;
+import me.nyungnim.blog.dto.ArticleResponse;
+import me.nyungnim.blog.service.BlogService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/** R2DBC 읽기 전용 API (/rx/api/articles)
+ * - WebFlux가 아니라 기존 스프링 MVC(서블릿)에서 Flux/Mono를 반환 -> MVC가 비동기 요청으로 처리
+ *   DB 결과를 기다리는 동안에는 요청 스레드를 반환하지만, 응답 쓰기는 서블릿의 블로킹 I/O
+ *   -> 느린 클라이언트에게 쓰는 동안에는 스레드를 사용하므로 적은 스레드로 많은 느린 클라이언트를 처리하지는 못함
+ * - 목록 스트리밍은 클라이언트가 받는 만큼만 DB에서 읽음(backpressure) -> 전체 목록을 메모리에 올리지 않음
+ * - 응답 모양은 BlogApiController와 같은 ArticleResponse
+ * - blog.reactive.enabled=true일 때만 등록 (R2dbcConfig)
+ */
+
+@RequiredArgsConstructor
+@RestController
+@ConditionalOnProperty(name = "blog.reactive.enabled", havingValue = "true")
+public class RxBlogApiController {
+
+    // 줄 단위 JSON(NDJSON) 미디어 타입, 한 줄에 글 하나씩 보내면서 다음 글을 읽음
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    // 스트리밍할 때 DB에서 한 번에 요청하는 행 수, 클라이언트가 느리면 이만큼만 앞서 읽고 기다림
+    private static final int STREAM_PREFETCH = 256;
+
+    private final ReactiveArticleRepository reactiveArticleRepository;
+    private final BlogService blogService;
+
+    // 글 목록 한 페이지(JSON 배열), 커서 기반 페이지네이션은 /api/articles와 같음
+    @GetMapping(value = "/rx/api/articles", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Flux<ArticleResponse> findArticles(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "" + BlogService.DEFAULT_PAGE_SIZE) int size) {
+        int pageSize = Math.min(Math.max(size, 1), BlogService.MAX_PAGE_SIZE);
+        if (cursor == null || cursor.isBlank()) {
+            return reactiveArticleRepository.findPage(null, null, pageSize);
+        }
+        ArticleCursor after = ArticleCursor.decode(cursor);
+        return reactiveArticleRepository.findPage(after.getCreatedAt(), after.getId(), pageSize);
+    }
+
+    // 전체 글 목록 스트리밍(NDJSON), Accept: application/x-ndjson
+    // 응답에 쓴 만큼만 DB에서 이어서 읽음 -> 전체 목록을 메모리에 올리지 않음
+    @GetMapping(value = "/rx/api/articles", produces = APPLICATION_NDJSON_VALUE)
+    public Flux<ArticleResponse> streamArticles() {
+        return reactiveArticleRepository.streamAll()
+                .limitRate(STREAM_PREFETCH);
+    }
+
+    // 글 하나 조회, 없으면 404 Not Found
+    @GetMapping("/rx/api/articles/{id}")
+    public Mono<ResponseEntity<ArticleResponse>> findArticle(@PathVariable("id") long id) {
+        return reactiveArticleRepository.findById(id)
+                .doOnNext(article -> blogService.increaseViewCount(id))  // 조회수는 메모리에만 더하므로 블로킹 없음
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+}
@@ -22,6 +22,8 @@ import java.time.LocalDateTime;
 // JPA 엔티티임을 나타냄, JPA가 이 클래스를 기반으로 테이블을 생성하거나 조작한다.
 // 테이블명을 변경하고 싶으면 @Table(name="") 사용
 @Entity
+// 키셋 페이지네이션에서 (created_at, id) 순서로 조회하기 때문에 복합 인덱스 추가
+@Table(indexes = @Index(name = "idx_article_created_at_id", columnList = "created_at, id"))
 // 롬복 애노테이션을 사용해 코드를 반복 입력할 필요가 없어짐
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -29,7 +31,10 @@ public class Article {
 
     // id 필드를 기본키로 지정
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // 기본키 자동생성, identity -> 자동 값 증가
+    // 기본키 자동생성, identity는 INSERT를 실행해야 id를 알 수 있어 JDBC 배치 INSERT가 꺼짐
+    // -> 시퀀스를 사용하고 allocationSize만큼 id를 미리 받아와(pooled 최적화) 시퀀스 조회 없이 id 할당
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_seq")
+    @SequenceGenerator(name = "article_seq", sequenceName = "article_seq", allocationSize = 50)
     @Column(name = "id", updatable = false)
     private Long id;
 
@@ -58,6 +63,17 @@ public class Article {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // 낙관적 락(optimistic lock)용 버전, 수정될 때마다 1씩 증가
+    // 수정 요청에 읽었던 버전을 함께 보내면 그 사이에 다른 사용자가 수정했는지 행 잠금 없이 확인 가능
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // 조회수, 조회할 때마다 UPDATE하지 않고 ArticleViewCounter가 모아서 주기적으로 증가분만 반영
+    // 엔티티 수정 시 오래된 조회수로 덮어쓰지 않도록 updatable = false
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
     /*
         코드 변경을 한 이유 (아래 코드 전체 주석)
         => Lombok 애노테이션을 활용하여 코드의 간결성과 가독성 높임
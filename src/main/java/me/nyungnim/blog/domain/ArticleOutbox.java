@@ -0,0 +1,43 @@
+package me.nyungnim.blog.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/** 글 변경 아웃박스(transactional outbox)
+ * 글을 추가/수정/삭제하는 트랜잭션 안에서 "이 글이 바뀌었다"는 기록을 함께 저장
+ * -> 글 변경과 기록이 같이 커밋되거나 같이 롤백되므로, 서버가 중간에 죽어도 후속 작업(검색 색인 등)을 빠뜨리지 않음
+ * 검색 인덱스는 인스턴스마다 따로 있으므로 기록을 처리한 인스턴스가 지우지 않음
+ * -> 인스턴스마다 ArticleOutboxProcessor가 어디까지 처리했는지(id)를 따로 기억하고, 보관 기간이 지난 기록은 주기적으로 삭제
+ */
+
+@Entity
+@Table(name = "article_outbox", indexes = @Index(name = "idx_article_outbox_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArticleOutbox {
+
+    // 여러 글을 한 번에 추가할 때 기록도 배치 INSERT로 저장되도록 시퀀스 사용
+    // 처리 위치를 id로 기억하므로 id를 하나씩 할당(allocationSize = 1) -> 모든 인스턴스에서 id 순서가 할당 순서와 같음
+    // (여러 개씩 미리 할당하면 다른 인스턴스가 미리 받아둔 작은 id가 한참 뒤에 커밋될 수 있음)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "article_outbox_seq")
+    @SequenceGenerator(name = "article_outbox_seq", sequenceName = "article_outbox_seq", allocationSize = 1)
+    @Column(name = "id", updatable = false)
+    private Long id;
+
+    // 변경된 글의 id, 처리할 때 글의 현재 상태를 다시 읽으므로 변경 종류(추가/수정/삭제)는 저장하지 않음
+    @Column(name = "article_id", nullable = false, updatable = false)
+    private Long articleId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ArticleOutbox(Long articleId) {
+        this.articleId = articleId;
+        this.createdAt = LocalDateTime.now();
+    }
+}
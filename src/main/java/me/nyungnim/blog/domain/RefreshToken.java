@@ -4,14 +4,19 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import me.nyungnim.blog.util.HashUtil;
 import org.springframework.data.annotation.Id;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+// 리프레시 토큰은 길이가 길고 가변적이라 인덱스에 적합하지 않음 -> 고정 길이(64자) 해시 컬럼에 유니크 인덱스를 걸어 조회
+@Table(indexes = @Index(name = "idx_refresh_token_hash", columnList = "refresh_token_hash", unique = true))
 public class RefreshToken {
 
     @jakarta.persistence.Id
@@ -26,13 +31,21 @@ public class RefreshToken {
     @Column(name = "refresh_token", nullable = false)
     private String refreshToken;
 
+    // 리프레시 토큰의 SHA-256 해시(16진수 64자), 토큰 조회는 이 컬럼으로 함
+    // 컬럼 추가 이전에 저장된 행은 값이 비어있을 수 있어 nullable, 애플리케이션 시작 시 채워짐(RefreshTokenHashBackfill)
+    @Column(name = "refresh_token_hash", length = 64)
+    private String refreshTokenHash;
+
     public RefreshToken(Long userId, String refreshToken) {
         this.userId = userId;
         this.refreshToken = refreshToken;
+        this.refreshTokenHash = HashUtil.sha256Hex(refreshToken);
     }
 
+    // 토큰을 바꿀 때 해시도 함께 갱신
     public RefreshToken update(String newRefreshToken) {
         this.refreshToken = newRefreshToken;
+        this.refreshTokenHash = HashUtil.sha256Hex(newRefreshToken);
         return this;
     }
 
@@ -101,4 +101,11 @@ public class User implements UserDetails {  // UserDetails를 상속받아 인
 
         return this;
     }
+
+    // 비밀번호 해시 변경 (해시 강도 업그레이드)
+    public User updatePassword(String password) {
+        this.password = password;
+
+        return this;
+    }
 }
@@ -0,0 +1,33 @@
+package me.nyungnim.blog.domain.repository;
+
+import me.nyungnim.blog.domain.ArticleOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ArticleOutboxRepository extends JpaRepository<ArticleOutbox, Long> {
+
+    // id 이후의 기록을 오래된 것부터 pageable의 크기만큼 조회
+    List<ArticleOutbox> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // createdAt 이전에 저장된 기록 중 가장 큰 id, 없으면 null
+    @Query("select max(o.id) from ArticleOutbox o where o.createdAt < :createdAt")
+    Long findMaxIdCreatedBefore(@Param("createdAt") LocalDateTime createdAt);
+
+    // 남아있는 기록의 가장 작은 id, 가장 큰 id, 기록이 없으면 null
+    @Query("select min(o.id) from ArticleOutbox o")
+    Long findMinId();
+
+    @Query("select max(o.id) from ArticleOutbox o")
+    Long findMaxId();
+
+    // 보관 기간이 지난 기록을 DELETE 한 번으로 삭제
+    @Modifying
+    @Query("delete from ArticleOutbox o where o.createdAt < :createdAt")
+    int deleteByCreatedAtBefore(@Param("createdAt") LocalDateTime createdAt);
+}
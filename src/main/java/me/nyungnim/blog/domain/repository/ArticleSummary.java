@@ -0,0 +1,21 @@
+package me.nyungnim.blog.domain.repository;
+
+import java.time.LocalDateTime;
+
+/** 글 목록 조회용 인터페이스 프로젝션
+ * 목록 화면에는 제목과 짧은 미리보기만 필요하기 때문에 Article 엔티티 전체를 조회하지 않음
+ * -> content 컬럼 전체를 가져오지 않고, 영속성 컨텍스트에 엔티티/스냅샷도 만들지 않아 메모리와 전송량이 줄어듦
+ */
+public interface ArticleSummary {
+
+    // 미리보기(excerpt)로 잘라서 가져올 본문의 최대 길이, DB에서 substring으로 잘라서 가져옴
+    int EXCERPT_LENGTH = 200;
+
+    Long getId();
+
+    String getTitle();
+
+    String getExcerpt();
+
+    LocalDateTime getCreatedAt();
+}
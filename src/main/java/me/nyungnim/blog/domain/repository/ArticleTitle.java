@@ -0,0 +1,9 @@
+package me.nyungnim.blog.domain.repository;
+
+// 인기 글 목록용 프로젝션 : 본문 없이 id와 제목만 조회
+public interface ArticleTitle {
+
+    Long getId();
+
+    String getTitle();
+}
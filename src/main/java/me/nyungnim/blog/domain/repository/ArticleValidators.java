@@ -0,0 +1,11 @@
+package me.nyungnim.blog.domain.repository;
+
+import java.time.LocalDateTime;
+
+// 조건부 요청 검증용 프로젝션 : 글 본문 없이 버전(ETag)과 수정 시간(Last-Modified)만 조회
+public interface ArticleValidators {
+
+    Long getVersion();
+
+    LocalDateTime getUpdatedAt();
+}
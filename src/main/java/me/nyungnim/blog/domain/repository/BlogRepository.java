@@ -1,7 +1,86 @@
 package me.nyungnim.blog.domain.repository;
 
+import jakarta.persistence.QueryHint;
 import me.nyungnim.blog.domain.Article;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface BlogRepository extends JpaRepository<Article, Long> {
+
+    // 목록 조회 시 엔티티 대신 ArticleSummary 프로젝션으로 필요한 컬럼만 조회, 본문은 미리보기 길이만큼 잘라서 가져옴
+    String SUMMARY_SELECT = "select a.id as id, a.title as title, " +
+            "substring(a.content, 1, " + ArticleSummary.EXCERPT_LENGTH + ") as excerpt, " +
+            "a.createdAt as createdAt from Article a ";
+
+    // 키셋(커서) 페이지네이션 : 첫 페이지, (created_at, id) 내림차순으로 pageable의 크기만큼 조회
+    // 목록 조회는 읽기 전용 트랜잭션으로 실행 -> 플러시/변경 감지를 하지 않음
+    @Transactional(readOnly = true)
+    @Query(SUMMARY_SELECT + "order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findFirstPage(Pageable pageable);
+
+    // 커서 이후 페이지 : OFFSET 대신 마지막으로 본 (created_at, id) 보다 뒤에 있는 행부터 조회
+    // -> (created_at, id) 인덱스를 타고 바로 위치를 찾기 때문에 페이지가 깊어져도 지연 시간이 일정함
+    @Transactional(readOnly = true)
+    @Query(SUMMARY_SELECT +
+            "where a.createdAt < :createdAt or (a.createdAt = :createdAt and a.id < :id) " +
+            "order by a.createdAt desc, a.id desc")
+    List<ArticleSummary> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                       Pageable pageable);
+
+    // 전체 글 내보내기용 : 결과를 한 번에 List로 만들지 않고 커서처럼 한 행씩 읽는 Stream으로 반환
+    // JDBC fetch size 힌트로 드라이버가 한 번에 가져오는 행 수를 제한, 읽기 전용 힌트로 스냅샷을 만들지 않음
+    // 반드시 트랜잭션 안에서 사용하고, 다 사용한 뒤에는 Stream을 닫아야 함
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select a from Article a order by a.id")
+    Stream<Article> streamAll();
+
+    // 조건부 요청(If-None-Match, If-Modified-Since) 확인용 : 글 전체가 아니라 버전, 수정 시간 컬럼만 조회
+    @Query("select a.version as version, a.updatedAt as updatedAt from Article a where a.id = :id")
+    Optional<ArticleValidators> findValidatorsById(@Param("id") Long id);
+
+    // 여러 글의 id, 제목만 조회, 없는(삭제된) 글은 결과에서 빠짐
+    @Query("select a.id as id, a.title as title from Article a where a.id in :ids")
+    List<ArticleTitle> findTitlesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 조회수 컬럼만 조회
+    @Query("select a.viewCount from Article a where a.id = :id")
+    Optional<Long> findViewCountById(@Param("id") Long id);
+
+    // 글 수정 : 엔티티를 조회하지 않고 UPDATE 한 번으로 제목, 본문, 수정 시간을 변경
+    // 벌크 연산이라 @LastModifiedDate, @Version이 동작하지 않으므로 수정 시간을 직접 전달하고 버전도 직접 증가
+    // 요청한 버전과 현재 버전이 같을 때만 수정 -> 반환값은 변경된 행 수(없는 id이거나 버전이 다르면 0)
+    // UPDATE는 영속성 컨텍스트를 거치지 않으므로 실행 전에 쌓인 변경을 flush하고, 실행 후에는 컨텍스트를 비움
+    // -> 같은 트랜잭션에서 이 글을 다시 조회해도 수정 전 엔티티가 아니라 DB의 새 값을 읽음
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("update Article a set a.title = :title, a.content = :content, a.updatedAt = :updatedAt, " +
+            "a.version = a.version + 1 where a.id = :id and a.version = :version")
+    int updateById(@Param("id") Long id, @Param("version") Long version, @Param("title") String title,
+                   @Param("content") String content, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 글 삭제 : deleteById()는 엔티티를 조회한 뒤 삭제하므로 DELETE 한 번으로 바로 삭제, 반환값은 삭제된 행 수
+    @Modifying
+    @Query("delete from Article a where a.id = :id")
+    int deleteDirectlyById(@Param("id") Long id);
+
+    // 여러 글 삭제 : IN 조건으로 DELETE 한 번에 삭제
+    @Modifying
+    @Query("delete from Article a where a.id in :ids")
+    int deleteDirectlyByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,72 @@
+package me.nyungnim.blog.domain.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import me.nyungnim.blog.dto.ArticleResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/** article 테이블 R2DBC 조회 레포지토리
+ * - JPA 레포지토리와 같은 테이블을 읽기 전용으로 조회, 결과는 Flux/Mono로 반환
+ * - 조회 결과를 한 번에 메모리에 올리지 않고 구독자가 요청한 만큼만 행을 읽음(backpressure)
+ * - 커넥션 풀과 DatabaseClient는 R2dbcConfig가 등록한 빈을 사용 (blog.reactive.enabled=true일 때만)
+ * - r2dbc-h2 드라이버는 내장 H2를 구독한 스레드에서 동기로 실행 -> H2에서는 논블로킹이 아님
+ *   논블로킹 I/O는 네트워크 드라이버(r2dbc-postgresql 등)를 spring.r2dbc.url로 연결할 때만 얻을 수 있음
+ */
+
+@RequiredArgsConstructor
+@Repository
+@ConditionalOnProperty(name = "blog.reactive.enabled", havingValue = "true")
+public class ReactiveArticleRepository {
+
+    private static final String SUMMARY_SELECT = "select id, title, substring(content, 1, " +
+            ArticleSummary.EXCERPT_LENGTH + ") as excerpt, created_at from article ";
+
+    private final DatabaseClient databaseClient;
+
+    // 글 하나 조회, 없으면 빈 Mono
+    public Mono<ArticleResponse> findById(long id) {
+        // 조회수는 /api/articles/{id}/views로 따로 조회 (/api/articles/{id}와 같은 모양)
+        return databaseClient.sql("select id, title, content, version from article where id = :id")
+                .bind("id", id)
+                .map(row -> new ArticleResponse(row.get("id", Long.class), row.get("title", String.class),
+                        row.get("content", String.class), row.get("version", Long.class)))
+                .one();
+    }
+
+    // 키셋(커서) 페이지네이션 : (created_at, id) 내림차순으로 limit개 조회, createdAt이 null이면 첫 페이지
+    public Flux<ArticleResponse> findPage(LocalDateTime createdAt, Long id, int limit) {
+        if (createdAt == null) {
+            return databaseClient.sql(SUMMARY_SELECT + "order by created_at desc, id desc limit :limit")
+                    .bind("limit", limit)
+                    .map(ReactiveArticleRepository::toSummary)
+                    .all();
+        }
+        return databaseClient.sql(SUMMARY_SELECT +
+                        "where created_at < :createdAt or (created_at = :createdAt and id < :id) " +
+                        "order by created_at desc, id desc limit :limit")
+                .bind("createdAt", createdAt)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveArticleRepository::toSummary)
+                .all();
+    }
+
+    // 전체 글 목록을 (created_at, id) 내림차순으로 스트리밍, 구독자가 요청한 만큼만 읽음
+    public Flux<ArticleResponse> streamAll() {
+        return databaseClient.sql(SUMMARY_SELECT + "order by created_at desc, id desc")
+                .map(ReactiveArticleRepository::toSummary)
+                .all();
+    }
+
+    // 목록에서는 본문 대신 미리보기(excerpt)를 content로 내려줌 (MVC 목록 API와 같은 모양)
+    private static ArticleResponse toSummary(Readable row) {
+        return new ArticleResponse(row.get("id", Long.class), row.get("title", String.class),
+                row.get("excerpt", String.class), null);
+    }
+}
@@ -0,0 +1,13 @@
+package me.nyungnim.blog.domain.repository;
+
+/** 리프레시 토큰과 토큰 주인(사용자) 정보를 함께 조회하는 인터페이스 프로젝션
+ * 새 액세스 토큰을 만드는 데 필요한 사용자 id, email만 조회
+ */
+public interface RefreshTokenOwner {
+
+    String getRefreshToken();
+
+    Long getUserId();
+
+    String getEmail();
+}
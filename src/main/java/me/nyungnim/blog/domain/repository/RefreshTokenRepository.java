@@ -1,11 +1,23 @@
 package me.nyungnim.blog.domain.repository;
 
 import me.nyungnim.blog.domain.RefreshToken;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     Optional<RefreshToken> findByUserId(Long userId);
-    Optional<RefreshToken> findByRefreshToken(String refreshToken);
+    // 토큰 원문 대신 인덱스가 걸린 해시 컬럼으로 조회
+    Optional<RefreshToken> findByRefreshTokenHash(String refreshTokenHash);
+    // 리프레시 토큰 조회와 사용자 조회를 조인 한 번으로 처리 -> 토큰 재발급 시 DB 왕복이 한 번
+    @Query("select r.refreshToken as refreshToken, u.id as userId, u.email as email " +
+            "from RefreshToken r join User u on u.id = r.userId " +
+            "where r.refreshTokenHash = :refreshTokenHash")
+    Optional<RefreshTokenOwner> findOwnerByRefreshTokenHash(@Param("refreshTokenHash") String refreshTokenHash);
+    // 해시 컬럼이 비어있는 (컬럼 추가 이전에 저장된) 행 조회
+    List<RefreshToken> findByRefreshTokenHashIsNull(Pageable pageable);
 }
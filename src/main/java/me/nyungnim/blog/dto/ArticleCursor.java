@@ -0,0 +1,44 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/** 글 목록 키셋 페이지네이션 커서
+ * 마지막으로 내려준 글의 (createdAt, id)를 담고 있음
+ * 클라이언트에는 Base64 URL-safe 문자열로 인코딩한 불투명(opaque) 값으로 전달 -> 내부 구조에 의존하지 않도록 함
+ */
+
+@AllArgsConstructor
+@Getter
+public class ArticleCursor {
+
+    private static final String DELIMITER = "_";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    // 커서를 클라이언트에게 전달할 문자열로 변환
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 클라이언트가 보낸 커서 문자열을 다시 커서 객체로 변환, 형식이 잘못되면 예외 발생
+    public static ArticleCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new ArticleCursor(LocalDateTime.parse(raw.substring(0, index)),
+                    Long.parseLong(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid cursor: " + cursor);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package me.nyungnim.blog.dto;
 
 import lombok.Getter;
 import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.repository.ArticleSummary;
 
 /** 뷰에게 데이터를 전달하기 위한 객체
  * 요청을 받아 사용자에게 뷰를 보여주려면 뷰 컨트롤러가 필요
@@ -22,4 +23,11 @@ public class ArticleListViewResponse {
         this.title = article.getTitle();
         this.content = article.getContent();
     }
+
+    // 목록 화면에서는 본문 전체 대신 미리보기(excerpt)를 content로 보여줌
+    public ArticleListViewResponse(ArticleSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.content = summary.getExcerpt();
+    }
 }
@@ -0,0 +1,32 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/** 키셋 페이지네이션 결과
+ * - articles : 이번 페이지의 글 목록
+ * - next : 다음 페이지를 요청할 때 사용할 커서, 마지막 페이지면 null
+ */
+
+@AllArgsConstructor
+@Getter
+public class ArticlePage<T> {
+
+    private final List<T> articles;
+    private final String next;
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    // 페이지 정보(커서)는 그대로 두고 글 목록만 다른 타입(DTO)으로 변환
+    public <R> ArticlePage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = articles.stream()
+                .<R>map(mapper)
+                .toList();
+        return new ArticlePage<>(mapped, next);
+    }
+}
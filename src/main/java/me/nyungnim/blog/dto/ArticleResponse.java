@@ -1,16 +1,53 @@
 package me.nyungnim.blog.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.repository.ArticleSummary;
 
+// 조회하지 않은 값(목록의 버전, 수정 응답의 조회수 등)은 null -> JSON에서 빼고 응답
+@JsonInclude(JsonInclude.Include.NON_NULL)
 @Getter
 public class ArticleResponse {
 
+    private final Long id;
     private final String title;
     private final String content;
+    private final Long version;
+    private final Long viewCount;
 
-    public ArticleResponse(Article article) {
+    // 내보내기, 조회수는 엔티티의 값(DB에 반영된 값)에 아직 반영하지 않은 증가분을 더해서 전달
+    public ArticleResponse(Article article, long viewCount) {
+        this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
+        this.version = article.getVersion();
+        this.viewCount = viewCount;
+    }
+
+    // 캐시에 저장된 글(단건 조회)과 따로 조회한 조회수 (BlogService.findViewCount)
+    public ArticleResponse(ArticleSnapshot article, long viewCount) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.version = article.getVersion();
+        this.viewCount = viewCount;
+    }
+
+    public ArticleResponse(Long id, String title, String content, Long version) {
+        this.id = id;
+        this.title = title;
+        this.content = content;
+        this.version = version;
+        this.viewCount = null;  // 수정 응답, R2DBC 조회에서는 조회수를 조회하지 않음
+    }
+
+    // 목록 API에서는 본문 전체 대신 미리보기(excerpt)를 content로 내려줌, 전체 본문은 단건 조회 API로 확인
+    public ArticleResponse(ArticleSummary summary) {
+        this.id = summary.getId();
+        this.title = summary.getTitle();
+        this.content = summary.getExcerpt();
+        this.version = null;    // 목록에서는 버전, 조회수를 조회하지 않음
+        this.viewCount = null;
     }
 }
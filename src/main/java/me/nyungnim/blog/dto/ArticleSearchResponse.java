@@ -0,0 +1,17 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 검색 결과 한 페이지, total은 검색어와 일치하는 전체 글의 수
+@AllArgsConstructor
+@Getter
+public class ArticleSearchResponse {
+
+    private long total;
+    private int page;
+    private int size;
+    private List<ArticleSearchResult> articles;
+}
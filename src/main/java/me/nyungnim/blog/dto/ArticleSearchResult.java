@@ -0,0 +1,15 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 검색 결과 한 건, score가 높을수록 검색어와 관련이 높은 글
+@AllArgsConstructor
+@Getter
+public class ArticleSearchResult {
+
+    private Long id;
+    private String title;
+    private String excerpt;
+    private float score;
+}
@@ -0,0 +1,32 @@
+package me.nyungnim.blog.dto;
+
+import lombok.Getter;
+import me.nyungnim.blog.domain.Article;
+
+import java.time.LocalDateTime;
+
+/** 글 단건 조회 캐시에 저장하는 값
+ * - JPA 엔티티는 조회한 요청의 영속성 컨텍스트에 묶여 있고 값을 바꿀 수 있어 여러 스레드가 공유하면 안 됨
+ *   -> 조회한 시점의 값을 복사한 불변 객체를 캐시에 저장하고, 컨트롤러는 이 값으로 응답/화면 DTO를 만듦
+ * - 조회수는 버전이 바뀌지 않아도 계속 바뀌므로 저장하지 않음 -> BlogService.findViewCount()로 따로 조회
+ */
+
+@Getter
+public class ArticleSnapshot {
+
+    private final Long id;
+    private final String title;
+    private final String content;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final Long version;
+
+    public ArticleSnapshot(Article article) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.createdAt = article.getCreatedAt();
+        this.updatedAt = article.getUpdatedAt();
+        this.version = article.getVersion();
+    }
+}
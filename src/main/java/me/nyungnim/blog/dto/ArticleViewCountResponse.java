@@ -0,0 +1,12 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 글 조회수, DB에 반영된 값과 아직 반영하지 않은 증가분의 합
+@AllArgsConstructor
+@Getter
+public class ArticleViewCountResponse {
+    private Long id;
+    private long viewCount;
+}
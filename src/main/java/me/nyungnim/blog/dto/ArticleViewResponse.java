@@ -14,11 +14,30 @@ public class ArticleViewResponse {
     private String title;
     private String content;
     private LocalDateTime createdAt;
+    private Long version;   // 수정 화면에서 수정 요청과 함께 보내는 버전
+    private long viewCount;
 
     public ArticleViewResponse(Article article) {
         this.id = article.getId();
         this.title = article.getTitle();
         this.content = article.getContent();
         this.createdAt = article.getCreatedAt();
+        this.version = article.getVersion();
+        this.viewCount = article.getViewCount();
+    }
+
+    // 캐시에 저장된 글(단건 조회), 수정 화면처럼 조회수를 표시하지 않는 화면에서 사용
+    public ArticleViewResponse(ArticleSnapshot article) {
+        this(article, 0);
+    }
+
+    // 캐시에 저장된 글(단건 조회)과 따로 조회한 조회수
+    public ArticleViewResponse(ArticleSnapshot article, long viewCount) {
+        this.id = article.getId();
+        this.title = article.getTitle();
+        this.content = article.getContent();
+        this.createdAt = article.getCreatedAt();
+        this.version = article.getVersion();
+        this.viewCount = viewCount;
     }
 }
@@ -0,0 +1,27 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여러 글을 한 번에 추가할 때 요청 목록의 각 항목(index)별 결과
+// 저장에 성공하면 id, 실패하면 error에 이유가 담김
+@AllArgsConstructor
+@Getter
+public class BatchArticleResult {
+
+    private int index;
+    private Long id;
+    private String error;
+
+    public static BatchArticleResult created(int index, Long id) {
+        return new BatchArticleResult(index, id, null);
+    }
+
+    public static BatchArticleResult failed(int index, String error) {
+        return new BatchArticleResult(index, null, error);
+    }
+
+    public boolean isCreated() {
+        return id != null;
+    }
+}
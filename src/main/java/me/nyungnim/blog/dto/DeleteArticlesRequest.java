@@ -0,0 +1,15 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 여러 글을 한 번에 삭제하는 요청, 삭제할 글의 id 목록
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class DeleteArticlesRequest {
+    private List<Long> ids;
+}
@@ -0,0 +1,11 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 여러 글을 한 번에 삭제한 결과, 실제로 삭제된 글의 수
+@AllArgsConstructor
+@Getter
+public class DeleteArticlesResponse {
+    private int deleted;
+}
@@ -0,0 +1,14 @@
+package me.nyungnim.blog.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 인기 글 한 건, views는 조회 기간(window) 동안의 조회수
+@AllArgsConstructor
+@Getter
+public class PopularArticleResponse {
+
+    private Long id;
+    private String title;
+    private long views;
+}
@@ -11,4 +11,5 @@ import lombok.NoArgsConstructor;
 public class UpdateArticleRequest {
     private String title;
     private String content;
+    private Long version;   // 수정할 글을 읽었을 때의 버전, 없으면 If-Match 헤더의 ETag를 사용
 }
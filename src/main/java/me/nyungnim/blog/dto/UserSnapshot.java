@@ -0,0 +1,66 @@
+package me.nyungnim.blog.dto;
+
+import lombok.Getter;
+import me.nyungnim.blog.domain.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/** 사용자 조회 캐시(email -> 사용자)에 저장하는 값
+ * - JPA 엔티티(User)는 값을 바꿀 수 있어 여러 스레드와 세션이 같은 인스턴스를 공유하면 안 됨
+ *   -> 조회한 시점의 값을 복사한 불변 객체를 캐시에 저장하고, 로그인한 세션의 인증 정보(principal)로도 사용
+ * - CredentialsContainer를 구현하지 않음 -> 로그인 후 비밀번호 지우기(eraseCredentials)로 캐시된 값이 바뀌지 않음
+ */
+
+@Getter
+public class UserSnapshot implements UserDetails {
+
+    // 모든 사용자가 같은 단일 권한 "user"를 가지므로 인스턴스마다 만들지 않고 공유
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("user"));
+
+    private final Long id;
+    private final String email;
+    private final String password;
+    private final String nickname;
+
+    public UserSnapshot(User user) {
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.password = user.getPassword();
+        this.nickname = user.getNickname();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return AUTHORITIES;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    // 계정 상태는 User 엔티티와 같이 항상 사용 가능
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
@@ -0,0 +1,5 @@
+package me.nyungnim.blog.service;
+
+// 글 변경 기록(아웃박스)이 저장되었음을 알리는 이벤트, 커밋된 뒤 ArticleOutboxProcessor가 기록을 처리
+public record ArticleChangedEvent() {
+}
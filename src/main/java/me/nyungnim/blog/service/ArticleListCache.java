@@ -0,0 +1,79 @@
+package me.nyungnim.blog.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import me.nyungnim.blog.config.CaffeineCacheFactory;
+import me.nyungnim.blog.config.metrics.CacheMetrics;
+import me.nyungnim.blog.domain.repository.ArticleSummary;
+import me.nyungnim.blog.dto.ArticlePage;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/** 글 목록 페이지 캐시 (cache-aside)
+ * - 글 목록은 쓰기보다 읽기가 훨씬 많기 때문에 조회한 페이지를 메모리에 저장해두고 재사용
+ * - 캐시 키에 세대(generation) 번호를 포함, 글이 추가/수정/삭제되면 세대 번호만 1 올림
+ *   -> 키를 하나씩 찾아 지우지 않아도 이전 세대의 페이지는 더 이상 조회되지 않음(O(1) 무효화)
+ *   -> 이전 세대의 페이지는 최대 개수/TTL에 의해 자연스럽게 제거됨
+ */
+
+@Component
+public class ArticleListCache implements MeterBinder {
+
+    // 애플리케이션 인스턴스마다 다른 값, 재시작 후 세대 번호가 0부터 다시 시작해도 이전 버전과 겹치지 않게 함
+    private final String instanceId = UUID.randomUUID().toString().substring(0, 8);
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<PageKey, ArticlePage<ArticleSummary>> pages;
+
+    public ArticleListCache(@Value("${blog.cache.article-list.maximum-size:100}") long maximumSize,
+                            @Value("${blog.cache.article-list.expire-after-write:5m}") Duration expireAfterWrite,
+                            CaffeineCacheFactory cacheFactory) {
+        this.pages = cacheFactory.build(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+    }
+
+    // 현재 세대의 페이지가 캐시에 있으면 반환, 없으면 loader로 조회한 뒤 저장
+    public ArticlePage<ArticleSummary> get(String cursor, int size, Supplier<ArticlePage<ArticleSummary>> loader) {
+        return pages.get(new PageKey(generation.get(), cursor, size), key -> loader.get());
+    }
+
+    // 목록의 현재 버전 문자열 (인스턴스 + 세대 번호), 목록 ETag에 사용
+    public String version() {
+        return instanceId + "-" + generation.get();
+    }
+
+    // 목록 캐시 무효화 : 트랜잭션 안이면 커밋된 뒤에 세대 번호를 올림
+    // 커밋 전에 올리면 다른 요청이 새 세대 키로 커밋 전 데이터를 조회해 캐시에 저장할 수 있기 때문
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+        } else {
+            generation.incrementAndGet();
+        }
+    }
+
+    // 적중률 등 캐시 통계를 메트릭으로 노출 (cache=articleList)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CacheMetrics.monitor(registry, pages, "articleList");
+    }
+
+    // cursor가 null이면 첫 페이지
+    record PageKey(long generation, String cursor, int size) {
+    }
+}
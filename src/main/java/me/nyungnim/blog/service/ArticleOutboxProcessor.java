@@ -0,0 +1,257 @@
+package me.nyungnim.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.ArticleOutbox;
+import me.nyungnim.blog.domain.repository.ArticleOutboxRepository;
+import me.nyungnim.blog.domain.repository.BlogRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** 글 변경 기록(아웃박스) 처리기
+ * - 글 변경이 커밋되면 이벤트를 받아 백그라운드 스레드에서 처리 -> 쓰기 요청은 DB INSERT까지만 기다림
+ * - 기록을 BATCH_SIZE 단위로 읽어 글 id별로 한 번만 처리 -> 같은 글을 여러 번 고쳐도 색인은 한 번
+ * - 이벤트를 놓치거나(다른 인스턴스에서 바뀐 글 등) 처리에 실패한 기록은 주기적인 조회로 다시 처리
+ * - 처리할 때 글의 현재 상태를 다시 읽으므로 같은 기록을 여러 번 처리해도 결과가 같음
+ *
+ * 검색 인덱스는 인스턴스마다 따로 있으므로 기록은 모든 인스턴스가 각자 처리해야 함
+ * - 처리한 기록을 지우지 않고, 이 인스턴스가 처리를 마친 마지막 id(offset)를 기억
+ *   offset은 commit-interval마다, 종료할 때 인덱스 커밋에 함께 저장 -> 재시작하면 저장된 offset부터 이어서 처리(resume)
+ *   인덱스를 전체 재색인할 때는 처리할 위치를 새로 정함(restart), 시작하기 전(ArticleSearchIndexInitializer)에는 처리하지 않음
+ * - id는 할당 순서대로지만 커밋 순서는 다를 수 있음 -> offset 바로 다음 id가 비어 있으면(아직 커밋되지 않은 트랜잭션)
+ *   그 뒤의 기록은 처리하되 offset은 올리지 않고, gap-timeout 동안 채워지지 않으면 롤백된 것으로 보고 건너뜀
+ * - 보관 기간(retention)이 지난 기록은 주기적으로 삭제, 보관 기간은 gap-timeout보다 길어야 함
+ */
+
+@Slf4j
+@Component
+public class ArticleOutboxProcessor {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ArticleOutboxRepository articleOutboxRepository;
+    private final BlogRepository blogRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration gapTimeout;
+    private final Duration retention;
+    private final Duration commitInterval;
+
+    // 한 번에 한 스레드만 처리, 처리 중에 들어온 요청은 requested로 표시해서 처리 중인 스레드가 한 번 더 처리
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicBoolean requested = new AtomicBoolean();
+
+    // 아래 상태는 lock을 잡은 스레드만 사용
+    // offset : 이 id까지는 모두 처리함(또는 롤백된 것으로 보고 건너뜀), resume()/restart()로 정하기 전에는 -1
+    private long offset = -1;
+    // 마지막으로 인덱스를 커밋한 시각(System.nanoTime)
+    private long lastCommit = System.nanoTime();
+    // offset 뒤에서 이미 처리한 기록의 id, offset이 올라가면 제거
+    private final Set<Long> processedAfterOffset = new HashSet<>();
+    // 비어 있는 id 구간의 시작 id -> 처음 발견한 시각(System.nanoTime)
+    private final Map<Long, Long> gapFirstSeen = new HashMap<>();
+
+    public ArticleOutboxProcessor(ArticleOutboxRepository articleOutboxRepository,
+                                  BlogRepository blogRepository,
+                                  ArticleSearchIndex articleSearchIndex,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${blog.outbox.gap-timeout:PT1M}") Duration gapTimeout,
+                                  @Value("${blog.outbox.retention:PT1H}") Duration retention,
+                                  @Value("${blog.search.commit-interval:PT30S}") Duration commitInterval) {
+        if (retention.compareTo(gapTimeout) <= 0) {
+            throw new IllegalArgumentException("blog.outbox.retention must be longer than blog.outbox.gap-timeout");
+        }
+        this.articleOutboxRepository = articleOutboxRepository;
+        this.blogRepository = blogRepository;
+        this.articleSearchIndex = articleSearchIndex;
+        this.transactionTemplate = transactionTemplate;
+        this.gapTimeout = gapTimeout;
+        this.retention = retention;
+        this.commitInterval = commitInterval;
+    }
+
+    // 인덱스 커밋에 저장된 offset부터 이어서 처리할 수 있는지 확인
+    // offset 이후의 기록이 보관 기간이 지나 삭제되었거나, offset이 남아있는 기록보다 크면(다른 DB의 인덱스) 이어서 처리할 수 없음
+    // 기록이 하나도 없으면 처리할 변경이 없으므로 이어서 사용 (인덱스와 DB가 맞는지는 ArticleSearchIndexInitializer가 글 수로 확인)
+    public boolean canResume(long committedOffset) {
+        Long minId = articleOutboxRepository.findMinId();
+        Long maxId = articleOutboxRepository.findMaxId();
+        if (minId == null) {
+            return true;
+        }
+        return committedOffset <= maxId && minId <= committedOffset + 1;
+    }
+
+    // 인덱스 커밋에 저장된 offset 이후의 기록을 지금 처리 (시작할 때 한 번)
+    public void resume(long committedOffset) {
+        lock.lock();
+        try {
+            reset(committedOffset);
+            boolean more;
+            do {
+                more = Boolean.TRUE.equals(transactionTemplate.execute(status -> processBatch()));
+            } while (more);
+            articleSearchIndex.refresh();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 전체 재색인을 시작할 때 처리할 위치를 새로 정함, 이후 처리는 drain()이 이어서 함
+    public void restart() {
+        lock.lock();
+        try {
+            reset(initialOffset());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 종료할 때 처리를 마친 위치까지 인덱스를 커밋 -> 다음 시작 때 이어서 처리
+    @PreDestroy
+    public void commitOnShutdown() {
+        lock.lock();
+        try {
+            if (offset >= 0) {
+                articleSearchIndex.commit(offset);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onArticleChanged(ArticleChangedEvent event) {
+        drain();
+    }
+
+    @Scheduled(fixedDelayString = "${blog.outbox.poll-interval:PT5S}")
+    public void poll() {
+        drain();
+    }
+
+    // 남아있는 기록을 모두 처리, 다른 스레드가 처리 중이면 기다리지 않고 바로 반환
+    public void drain() {
+        requested.set(true);
+        while (requested.get() && lock.tryLock()) {
+            try {
+                requested.set(false);
+                if (offset < 0) {
+                    return;     // 시작할 때 처리할 위치를 정한 뒤에 처리 (ArticleSearchIndexInitializer)
+                }
+                boolean more;
+                do {
+                    more = Boolean.TRUE.equals(transactionTemplate.execute(status -> processBatch()));
+                    articleSearchIndex.refresh();   // 묶음마다 한 번만 검색 결과에 반영
+                } while (more);
+                commitIfDue();
+            } catch (RuntimeException e) {
+                // offset은 처리를 마친 기록까지만 올라가므로 다음 주기에 이어서 처리
+                log.warn("Failed to process article outbox, will retry", e);
+                return;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 보관 기간이 지난 기록 삭제, 모든 인스턴스가 실행해도 결과가 같음
+    @Scheduled(fixedDelayString = "${blog.outbox.cleanup-interval:PT10M}")
+    public void cleanup() {
+        Integer deleted = transactionTemplate.execute(status ->
+                articleOutboxRepository.deleteByCreatedAtBefore(LocalDateTime.now().minus(retention)));
+        log.debug("Deleted {} article outbox records older than {}", deleted, retention);
+    }
+
+    private void reset(long startOffset) {
+        offset = startOffset;
+        processedAfterOffset.clear();
+        gapFirstSeen.clear();
+    }
+
+    // 커밋은 디스크 동기화(fsync)가 필요하므로 묶음마다 하지 않고 commit-interval마다 한 번
+    private void commitIfDue() {
+        long now = System.nanoTime();
+        if (now - lastCommit >= commitInterval.toNanos()) {
+            articleSearchIndex.commit(offset);
+            lastCommit = now;
+        }
+    }
+
+    // 전체 재색인할 때 처리할 위치 : gap-timeout보다 오래된 기록까지는 재색인(전체 글 조회)에 반영됨
+    // 그 이후 기록은 아직 커밋되지 않은 트랜잭션과 겹칠 수 있으므로 다시 처리
+    private long initialOffset() {
+        Long maxId = articleOutboxRepository.findMaxIdCreatedBefore(LocalDateTime.now().minus(gapTimeout));
+        return maxId == null ? 0 : maxId;
+    }
+
+    // 기록 한 묶음 처리 : 바뀐 글을 한 번에 조회해서 있으면 색인, 없으면(삭제된 글) 색인에서 제거한 뒤 offset을 올림
+    // 반환값 : 이어서 다음 묶음을 처리해야 하면 true
+    private boolean processBatch() {
+        List<ArticleOutbox> records = articleOutboxRepository.findByIdGreaterThanOrderByIdAsc(offset,
+                PageRequest.of(0, BATCH_SIZE));
+        if (records.isEmpty()) {
+            return false;
+        }
+
+        Set<Long> articleIds = new HashSet<>();
+        for (ArticleOutbox record : records) {
+            if (!processedAfterOffset.contains(record.getId())) {
+                articleIds.add(record.getArticleId());
+            }
+        }
+        if (!articleIds.isEmpty()) {
+            Set<Long> deletedIds = new HashSet<>(articleIds);
+            for (Article article : blogRepository.findAllById(articleIds)) {
+                articleSearchIndex.index(article.getId(), article.getTitle(), article.getContent());
+                deletedIds.remove(article.getId());
+            }
+            articleSearchIndex.delete(deletedIds);
+        }
+        records.forEach(record -> processedAfterOffset.add(record.getId()));
+
+        long previousOffset = offset;
+        advanceOffset(records);
+        // 묶음이 가득 찼고 offset이 올라갔으면 뒤에 기록이 더 있음
+        // offset이 비어 있는 id에 막혀 있으면 같은 묶음을 다시 읽게 되므로 다음 주기에 다시 확인
+        return records.size() == BATCH_SIZE && offset > previousOffset;
+    }
+
+    // 처리한 기록이 offset부터 빈틈없이 이어지는 데까지 offset을 올림
+    private void advanceOffset(List<ArticleOutbox> records) {
+        long now = System.nanoTime();
+        long expected = offset + 1;
+        for (ArticleOutbox record : records) {
+            long id = record.getId();
+            if (id > expected) {
+                // expected ~ id - 1 : 아직 커밋되지 않았거나 롤백된 트랜잭션이 할당한 id
+                long firstSeen = gapFirstSeen.computeIfAbsent(expected, key -> now);
+                if (now - firstSeen < gapTimeout.toNanos()) {
+                    break;
+                }
+                log.debug("Skipping article outbox ids {}..{} not committed within {}", expected, id - 1, gapTimeout);
+            }
+            offset = id;
+            expected = id + 1;
+        }
+        processedAfterOffset.removeIf(id -> id <= offset);
+        gapFirstSeen.keySet().removeIf(id -> id <= offset);
+    }
+}
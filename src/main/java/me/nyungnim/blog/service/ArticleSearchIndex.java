@@ -0,0 +1,300 @@
+package me.nyungnim.blog.service;
+
+import lombok.extern.slf4j.Slf4j;
+import me.nyungnim.blog.domain.repository.ArticleSummary;
+import me.nyungnim.blog.dto.ArticleSearchResponse;
+import me.nyungnim.blog.dto.ArticleSearchResult;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.ko.KoreanAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.LockObtainFailedException;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** 글 전문 검색 인덱스 (Lucene 역색인)
+ * - 제목, 본문을 한국어 형태소 분석기(Nori)로 분석해서 색인 -> "블로그를" 으로도 "블로그"가 들어간 글을 찾을 수 있음
+ * - 검색어와 일치하는 글을 BM25 점수 순으로 정렬, 제목에서 일치하면 본문보다 높은 점수
+ * - 글이 추가/수정/삭제되면 해당 글만 다시 색인(증분 색인), 커밋 후 ArticleOutboxProcessor가 묶음으로 반영
+ * - 인덱스는 blog.search.index-path 디렉터리에 저장, 디스크의 파일을 메모리 매핑해서 읽으므로 글이 많아져도 힙 메모리를 사용하지 않음
+ *   기본값은 사용자 홈 디렉터리 아래 서버 포트별 디렉터리 -> 실행 위치와 상관없이 같은 인덱스를 다시 열고,
+ *   같은 호스트에 띄운 다른 인스턴스(다른 포트)와 디렉터리가 겹치지 않음 (같은 디렉터리는 한 IndexWriter만 열 수 있음)
+ * - blog.search.index-path를 빈 값으로 지정하면 힙 메모리에 둠, 글이 적은 테스트나 한 JVM에 애플리케이션을 여러 개 띄울 때 사용
+ * - 재시작해도 인덱스를 지우지 않음, 커밋할 때 어디까지 반영했는지(아웃박스 offset)를 커밋 데이터에 함께 저장
+ *   -> 시작할 때 그 이후의 변경만 다시 반영하고, 인덱스가 없거나 이어서 반영할 수 없을 때만 전체 재색인
+ *   (ArticleSearchIndexInitializer) 전체 재색인 중에는 커밋, 검색 결과 반영을 하지 않아 만드는 중인 인덱스가 보이지 않음
+ */
+
+@Slf4j
+@Component
+public class ArticleSearchIndex implements DisposableBean {
+
+    // 검색 결과 페이지의 최대 크기, 깊은 페이지는 앞 페이지의 결과를 모두 정렬해야 하므로 조회 가능한 범위를 제한
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int MAX_RESULT_WINDOW = 10_000;
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String EXCERPT = "excerpt";
+    private static final float TITLE_BOOST = 2.0f;
+    // 커밋 데이터에 저장하는 키, 이 커밋에 반영된 아웃박스 기록의 마지막 id
+    private static final String OUTBOX_OFFSET = "outbox-offset";
+
+    private final Analyzer analyzer = new KoreanAnalyzer();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // 전체 재색인 중에 증분 색인된 글의 id, 재색인이 이전 내용으로 덮어쓰지 않도록 건너뜀
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Set<Long> updatedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    // 마지막 커밋에 저장된 아웃박스 offset, 커밋한 적이 없으면 null
+    private volatile Long committedOffset;
+
+    public ArticleSearchIndex(
+            @Value("${blog.search.index-path:${user.home}/.blog/search-index-${server.port:8080}}") String indexPath)
+            throws IOException {
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)   // 디스크에 있는 인덱스를 이어서 사용
+                .setCommitOnClose(false);   // 종료할 때 재색인 중인 인덱스를 커밋하지 않도록 커밋은 commit()으로만
+        try {
+            this.writer = new IndexWriter(directory, config);
+        } catch (LockObtainFailedException e) {
+            directory.close();
+            throw new IllegalStateException("Search index " + indexPath
+                    + " is used by another instance, set blog.search.index-path per instance", e);
+        }
+        this.searcherManager = new SearcherManager(writer, null);
+        this.committedOffset = readCommittedOffset();
+    }
+
+    // 마지막 커밋에 반영된 아웃박스 기록의 마지막 id, 인덱스를 새로 만들었으면 null
+    public Long committedOffset() {
+        return committedOffset;
+    }
+
+    // 색인된 글의 수 (검색 결과에 반영하지 않은 변경 포함)
+    public long count() {
+        return writer.getDocStats().numDocs;
+    }
+
+    // 지금까지의 변경을 디스크에 커밋하고, 반영한 아웃박스 offset을 함께 저장
+    // 전체 재색인 중이면 만드는 중인 인덱스를 저장하지 않도록 커밋하지 않음 -> 재시작하면 이전 커밋부터 이어서 반영
+    public void commit(long outboxOffset) {
+        if (rebuilding || (!writer.hasUncommittedChanges() && Long.valueOf(outboxOffset).equals(committedOffset))) {
+            return;
+        }
+        try {
+            writer.setLiveCommitData(Map.of(OUTBOX_OFFSET, Long.toString(outboxOffset)).entrySet());
+            writer.commit();
+            committedOffset = outboxOffset;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 글 색인 (이미 색인된 글이면 교체), 검색 결과에는 refresh() 이후에 반영
+    public void index(Long id, String title, String content) {
+        writeLock.lock();
+        try {
+            if (rebuilding) {
+                updatedDuringRebuild.add(id);
+            }
+            write(id, title, content);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 색인에서 글 제거, 검색 결과에는 refresh() 이후에 반영
+    public void delete(Collection<Long> ids) {
+        writeLock.lock();
+        try {
+            for (Long id : ids) {
+                if (rebuilding) {
+                    updatedDuringRebuild.add(id);
+                }
+                writer.deleteDocuments(new Term(ID, id.toString()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 전체 재색인 시작, 끝나면 finishRebuild()를 호출해야 함
+    // 기존 색인을 지우고 다시 만듦, 끝날 때까지 검색은 재색인 전의 결과를 사용
+    public void startRebuild() {
+        writeLock.lock();
+        try {
+            updatedDuringRebuild.clear();
+            rebuilding = true;
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 전체 재색인 중 한 건 색인, 재색인 도중에 증분 색인된 글은 더 최신이므로 건너뜀
+    public void rebuild(Long id, String title, String content) {
+        writeLock.lock();
+        try {
+            if (!updatedDuringRebuild.contains(id)) {
+                write(id, title, content);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void finishRebuild() {
+        rebuilding = false;
+        updatedDuringRebuild.clear();
+        refresh();
+    }
+
+    // 검색어와 일치하는 글을 점수 순으로 page번째 페이지만 조회 (page는 0부터)
+    public ArticleSearchResponse search(String q, int page, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int pageNumber = Math.max(page, 0);
+        Query query = buildQuery(q);
+        if (query == null || (long) (pageNumber + 1) * pageSize > MAX_RESULT_WINDOW) {
+            return new ArticleSearchResponse(0, pageNumber, pageSize, List.of());
+        }
+
+        IndexSearcher searcher = acquire();
+        try {
+            TopDocs topDocs = searcher.search(query, (pageNumber + 1) * pageSize);
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            List<ArticleSearchResult> results = new ArrayList<>(pageSize);
+            for (int i = pageNumber * pageSize; i < hits.length; i++) {
+                Document document = searcher.storedFields().document(hits[i].doc);
+                results.add(new ArticleSearchResult(Long.valueOf(document.get(ID)), document.get(TITLE),
+                        document.get(EXCERPT), hits[i].score));
+            }
+            return new ArticleSearchResponse(topDocs.totalHits.value, pageNumber, pageSize, results);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        analyzer.close();
+    }
+
+    // 제목, 본문 중 하나라도 검색어의 형태소를 포함하면 일치, 분석 결과 남는 형태소가 없으면 null
+    private Query buildQuery(String q) {
+        if (q == null || q.isBlank()) {
+            return null;
+        }
+        QueryBuilder builder = new QueryBuilder(analyzer);
+        Query titleQuery = builder.createBooleanQuery(TITLE, q);
+        Query contentQuery = builder.createBooleanQuery(CONTENT, q);
+        if (titleQuery == null && contentQuery == null) {
+            return null;
+        }
+
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (titleQuery != null) {
+            query.add(new BoostQuery(titleQuery, TITLE_BOOST), BooleanClause.Occur.SHOULD);
+        }
+        if (contentQuery != null) {
+            query.add(contentQuery, BooleanClause.Occur.SHOULD);
+        }
+        return query.build();
+    }
+
+    private void write(Long id, String title, String content) {
+        Document document = new Document();
+        document.add(new StringField(ID, id.toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, title, Field.Store.YES));
+        document.add(new TextField(CONTENT, content, Field.Store.NO));
+        // 검색 결과에 보여줄 미리보기만 저장, 본문 전체는 저장하지 않음
+        document.add(new StoredField(EXCERPT, content.substring(0, Math.min(content.length(), ArticleSummary.EXCERPT_LENGTH))));
+        try {
+            writer.updateDocument(new Term(ID, id.toString()), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 변경된 색인을 다음 검색부터 보이도록 함 (NRT, 커밋 없이 writer의 변경 내용을 읽음)
+    // 색인할 때마다 하지 않고 묶음 단위로 한 번만 호출, 전체 재색인 중에는 finishRebuild()에서 한 번에 반영
+    public void refresh() {
+        if (rebuilding) {
+            return;
+        }
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Long readCommittedOffset() {
+        for (Map.Entry<String, String> entry : writer.getLiveCommitData()) {
+            if (OUTBOX_OFFSET.equals(entry.getKey())) {
+                return Long.valueOf(entry.getValue());
+            }
+        }
+        return null;
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException e) {
+            log.warn("Failed to release index searcher", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package me.nyungnim.blog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.repository.BlogRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/** 검색 인덱스 초기화
+ * - 디스크에 커밋된 인덱스가 있으면 커밋에 저장된 아웃박스 offset 이후의 변경만 반영 (재시작마다 전체 재색인하지 않음)
+ *   반영한 뒤 색인된 글 수가 DB의 글 수와 다르면(다른 DB를 가리키는 인덱스 등) 전체 재색인
+ * - 인덱스가 없거나 이어서 반영할 수 없으면 전체 글을 묶음 단위로 스트리밍 조회하면서 다시 만듦
+ *   글 전체를 메모리에 올리지 않으므로 글 수와 상관없이 메모리 사용량이 일정함
+ *   재색인이 끝날 때까지 검색은 재색인 전의 인덱스를 사용하고, 준비 상태(readiness)는 실행이 끝난 뒤에 ACCEPTING_TRAFFIC으로 바뀜
+ */
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleSearchIndexInitializer implements ApplicationRunner {
+
+    private final BlogService blogService;
+    private final BlogRepository blogRepository;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleOutboxProcessor articleOutboxProcessor;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Long committedOffset = articleSearchIndex.committedOffset();
+        if (committedOffset != null && articleOutboxProcessor.canResume(committedOffset)) {
+            long start = System.currentTimeMillis();
+            articleOutboxProcessor.resume(committedOffset);
+
+            long indexed = articleSearchIndex.count();
+            long articles = blogRepository.count();
+            if (indexed == articles) {
+                log.info("Resumed search index from outbox offset {} with {} articles in {} ms",
+                        committedOffset, indexed, System.currentTimeMillis() - start);
+                return;
+            }
+            log.warn("Search index has {} articles but database has {}, rebuilding", indexed, articles);
+        }
+        rebuild();
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        AtomicLong count = new AtomicLong();
+
+        articleSearchIndex.startRebuild();
+        articleOutboxProcessor.restart();
+        try {
+            blogService.exportAll(articles -> {
+                for (Article article : articles) {
+                    articleSearchIndex.rebuild(article.getId(), article.getTitle(), article.getContent());
+                }
+                count.addAndGet(articles.size());
+            });
+        } finally {
+            articleSearchIndex.finishRebuild();
+        }
+        articleOutboxProcessor.drain();
+
+        log.info("Indexed {} articles for search in {} ms", count.get(), System.currentTimeMillis() - start);
+    }
+}
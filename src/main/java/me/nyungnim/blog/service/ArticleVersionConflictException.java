@@ -0,0 +1,14 @@
+package me.nyungnim.blog.service;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+// 글을 읽은 뒤에 다른 사용자가 먼저 수정해서 요청한 버전이 현재 버전과 다를 때 발생하는 예외 -> 409 Conflict
+@ResponseStatus(HttpStatus.CONFLICT)
+public class ArticleVersionConflictException extends OptimisticLockingFailureException {
+
+    public ArticleVersionConflictException(long id) {
+        super("version conflict: " + id);
+    }
+}
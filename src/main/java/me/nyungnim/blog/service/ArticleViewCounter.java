@@ -0,0 +1,109 @@
+package me.nyungnim.blog.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/** 글 조회수 카운터 (write-behind)
+ * - 조회할 때마다 UPDATE하지 않고 글 id별 LongAdder에 메모리로 누적
+ *   LongAdder는 스레드마다 다른 칸(cell)에 더하므로 인기 글에 조회가 몰려도 경합이 없음
+ * - 주기적으로 누적된 증가분만 모아 배치 UPDATE 한 번으로 DB에 반영, 애플리케이션 종료 시에도 반영
+ * - DB 반영에 실패한 증가분은 다시 카운터에 더해서 다음 주기에 반영
+ * - 글 캐시는 건드리지 않음, 조회수는 DB 값에 pending()을 더해서 따로 조회 (BlogService.findViewCount)
+ */
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ArticleViewCounter {
+
+    private static final String FLUSH_SQL = "update article set view_count = view_count + ? where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+    // 한 주기 동안 조회가 없어 맵에서 뺀 카운터, 빼기 직전에 카운터를 가져간 스레드가 더한 값까지 다음 주기에 한 번 더 반영
+    private List<Map.Entry<Long, LongAdder>> retired = List.of();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // 조회수 1 증가, 메모리에만 더하므로 DB 접근 없음
+    public void increment(long articleId) {
+        counters.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영하지 않은 조회수 증가분
+    public long pending(long articleId) {
+        LongAdder counter = counters.get(articleId);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    // 누적된 증가분을 배치 UPDATE로 DB에 반영, 반환값은 반영한 글의 수
+    @Scheduled(fixedDelayString = "${blog.view-count.flush-interval:PT5S}")
+    public int flush() {
+        flushLock.lock();   // 주기적인 반영과 종료 시 반영이 겹치지 않도록
+        try {
+            Map<Long, Long> deltas = new HashMap<>();
+            for (Map.Entry<Long, LongAdder> entry : retired) {
+                addDelta(deltas, entry.getKey(), entry.getValue().sumThenReset());
+            }
+
+            List<Map.Entry<Long, LongAdder>> idle = new ArrayList<>();
+            for (Map.Entry<Long, LongAdder> entry : counters.entrySet()) {
+                // sumThenReset()은 칸마다 값을 가져오면서 0으로 바꾸므로 동시에 더해진 값도 이번 또는 다음 주기에 반영됨
+                long delta = entry.getValue().sumThenReset();
+                if (delta == 0) {
+                    idle.add(Map.entry(entry.getKey(), entry.getValue()));
+                } else {
+                    addDelta(deltas, entry.getKey(), delta);
+                }
+            }
+            // 조회가 없던 카운터는 맵에서 빼서 메모리 사용량을 조회된 글의 수로 제한
+            idle.removeIf(entry -> !counters.remove(entry.getKey(), entry.getValue()));
+            retired = idle;
+
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+            write(deltas);
+            return deltas.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    // 애플리케이션 종료 시(웹 서버가 요청 처리를 멈춘 뒤) 남은 증가분을 모두 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        flush();    // 마지막 주기에 뺀 카운터까지 반영
+    }
+
+    private void write(Map<Long, Long> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> batchArgs.add(new Object[]{delta, id}));
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증가분은 다시 더해서 다음 주기에 반영
+            log.warn("Failed to flush view counts for {} articles, will retry", deltas.size(), e);
+            deltas.forEach((id, delta) -> counters.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+        }
+    }
+
+    private void addDelta(Map<Long, Long> deltas, Long articleId, long delta) {
+        if (delta != 0) {
+            deltas.merge(articleId, delta, Long::sum);
+        }
+    }
+}
@@ -1,33 +1,162 @@
 package me.nyungnim.blog.service;
 
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import me.nyungnim.blog.config.CacheConfig;
 import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.ArticleOutbox;
+import me.nyungnim.blog.domain.repository.ArticleOutboxRepository;
+import me.nyungnim.blog.domain.repository.ArticleSummary;
+import me.nyungnim.blog.domain.repository.ArticleValidators;
 import me.nyungnim.blog.domain.repository.BlogRepository;
 import me.nyungnim.blog.dto.AddArticleRequest;
+import me.nyungnim.blog.dto.ArticleCursor;
+import me.nyungnim.blog.dto.ArticlePage;
+import me.nyungnim.blog.dto.ArticleResponse;
+import me.nyungnim.blog.dto.ArticleSearchResponse;
+import me.nyungnim.blog.dto.ArticleSnapshot;
+import me.nyungnim.blog.dto.BatchArticleResult;
+import me.nyungnim.blog.dto.PopularArticleResponse;
 import me.nyungnim.blog.dto.UpdateArticleRequest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /*
     서비스 계층
     - 데이터베이스 접근 로직을 캡슐화, 컨트롤러와 데이터베이스 간의 결합도를 낮춤
 */
 
+@Timed("blog.service")   // public 메서드별 실행 시간 기록 (class, method 태그), /actuator/prometheus로 노출
 @RequiredArgsConstructor    // final이 붙거나 @NotNull이 붙은 필드의 생성자 추가
 @Service    // 빈으로 등록, 컨트롤러나 다른 서비스 클래스에서 이 클래스를 주입받아 사용 가능
 public class BlogService {
 
+    // 글 목록 한 페이지의 기본 크기와 최대 크기
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // 전체 글 내보내기 시 한 번에 넘겨주는 글의 수, 이 단위마다 영속성 컨텍스트를 비움
+    public static final int EXPORT_CHUNK_SIZE = 500;
+    // 여러 글을 한 번에 추가할 때 한 트랜잭션에서 저장하는 글의 수, JDBC 배치 크기(blog.jpa.batch-size)의 배수로 맞춤
+    public static final int BATCH_CHUNK_SIZE = 500;
+    // 한 요청으로 추가하거나 삭제할 수 있는 글의 최대 수, 요청 하나가 DB 연결과 요청 스레드를 오래 붙잡지 않도록 제한
+    public static final int MAX_BATCH_SIZE = 2_000;
+    // 여러 글을 한 번에 삭제할 때 DELETE 한 번(IN 조건)과 한 트랜잭션에서 삭제하는 글의 수
+    public static final int DELETE_CHUNK_SIZE = 500;
+
     // 레포지토리 객체를 주입받아 데이터베이스와 상호작용
     private final BlogRepository blogRepository;
+    private final EntityManager entityManager;
+    private final ArticleListCache articleListCache;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final ArticleSearchIndex articleSearchIndex;
+    private final ArticleOutboxRepository articleOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArticleViewCounter articleViewCounter;
+    private final PopularArticles popularArticles;
 
     // 블로그 글 추가 메서드, 매개변수 : 클라이언트로부터 전달받은 데이터를 포함하는 DTO
+    // 글과 변경 기록(아웃박스)을 같은 트랜잭션으로 저장
+    @Transactional
     public Article save(AddArticleRequest request) {
         // DTO 객체를 엔티티로 변환, 변환된 엔티티는 데이터베이스에 저장할 준비가 된다.
         // save() : JPA의 save() 메서드를 호출해 엔티티를 데이터베이스에 저장
         // return : 저장된 Article Entity 객체 반환
-        return blogRepository.save(request.toEntity());
+        Article article = blogRepository.save(request.toEntity());
+        articleListCache.invalidate();  // 글 목록이 바뀌었으므로 목록 캐시 무효화
+        recordChanges(List.of(article.getId()));
+        return article;
+    }
+
+    // 여러 글을 한 번에 추가, 다른 플랫폼에서 글을 옮겨올 때 사용
+    // BATCH_CHUNK_SIZE 단위로 트랜잭션을 나눠 JDBC 배치 INSERT로 저장하고, 묶음마다 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지
+    // 반환값 : 요청 순서대로 항목별 저장 결과
+    public List<BatchArticleResult> saveAll(List<AddArticleRequest> requests) {
+        BatchArticleResult[] results = new BatchArticleResult[requests.size()];
+        List<Integer> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+
+        for (int index = 0; index < requests.size(); index++) {
+            AddArticleRequest request = requests.get(index);
+            // 필수 값이 없는 글은 DB에 보내기 전에 걸러냄 -> 한 건 때문에 묶음 전체가 롤백되지 않도록
+            if (request == null || request.getTitle() == null || request.getContent() == null) {
+                results[index] = BatchArticleResult.failed(index, "title and content are required");
+                continue;
+            }
+            chunk.add(index);
+            if (chunk.size() == BATCH_CHUNK_SIZE) {
+                saveChunk(requests, chunk, results);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(requests, chunk, results);
+        }
+
+        articleListCache.invalidate();  // 글 목록이 바뀌었으므로 목록 캐시 무효화
+        return Arrays.asList(results);
+    }
+
+    private void saveChunk(List<AddArticleRequest> requests, List<Integer> chunk, BatchArticleResult[] results) {
+        try {
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Article> articles = new ArrayList<>(chunk.size());
+                for (int index : chunk) {
+                    articles.add(requests.get(index).toEntity());
+                }
+                blogRepository.saveAll(articles);
+                recordChanges(articles.stream().map(Article::getId).toList());
+                entityManager.flush();  // 모아둔 INSERT를 배치로 실행
+                entityManager.clear();
+                return articles.stream().map(Article::getId).toList();
+            });
+            for (int i = 0; i < chunk.size(); i++) {
+                results[chunk.get(i)] = BatchArticleResult.created(chunk.get(i), ids.get(i));
+            }
+        } catch (RuntimeException e) {
+            // 묶음 중 한 건이라도 실패하면 묶음 전체가 롤백됨 -> 한 건씩 다시 저장해서 실패한 글만 골라냄
+            for (int index : chunk) {
+                results[index] = saveOne(requests.get(index), index);
+            }
+        }
+    }
+
+    private BatchArticleResult saveOne(AddArticleRequest request, int index) {
+        try {
+            Long id = transactionTemplate.execute(status -> {
+                Article article = blogRepository.save(request.toEntity());
+                recordChanges(List.of(article.getId()));
+                return article.getId();
+            });
+            return BatchArticleResult.created(index, id);
+        } catch (RuntimeException e) {
+            return BatchArticleResult.failed(index, "could not save article");
+        }
+    }
+
+    // 제목, 본문에서 검색어와 일치하는 글을 관련도 순으로 page번째 페이지만 조회
+    public ArticleSearchResponse search(String q, int page, int size) {
+        return articleSearchIndex.search(q, page, size);
     }
 
     public List<Article> findAll() {
@@ -35,7 +164,60 @@ public class BlogService {
         return blogRepository.findAll();
     }
 
-    public Article findById(long id) {
+    // 커서 기반으로 글 목록의 한 페이지를 조회, cursor가 없으면 첫 페이지
+    // 목록 캐시에 있으면 DB를 조회하지 않고 바로 반환
+    public ArticlePage<ArticleSummary> findPage(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        String pageCursor = (cursor == null || cursor.isBlank()) ? null : cursor;
+        return articleListCache.get(pageCursor, pageSize, () -> loadPage(pageCursor, pageSize));
+    }
+
+    private ArticlePage<ArticleSummary> loadPage(String cursor, int pageSize) {
+        // 다음 페이지가 있는지 확인하기 위해 한 건 더 조회
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<ArticleSummary> articles;
+        if (cursor == null) {
+            articles = blogRepository.findFirstPage(limit);
+        } else {
+            ArticleCursor after = ArticleCursor.decode(cursor);
+            articles = blogRepository.findPageAfter(after.getCreatedAt(), after.getId(), limit);
+        }
+
+        if (articles.size() <= pageSize) {
+            return new ArticlePage<>(articles, null);
+        }
+        List<ArticleSummary> page = articles.subList(0, pageSize);
+        ArticleSummary last = page.get(pageSize - 1);
+        return new ArticlePage<>(page, new ArticleCursor(last.getCreatedAt(), last.getId()).encode());
+    }
+
+    // 전체 글을 Stream으로 읽으면서 EXPORT_CHUNK_SIZE 단위로 나눠 consumer에게 전달
+    // 전달이 끝난 묶음은 영속성 컨텍스트에서 비워서 테이블 크기와 상관없이 메모리 사용량을 일정하게 유지
+    @Transactional(readOnly = true)
+    public void exportAll(Consumer<List<Article>> chunkConsumer) {
+        try (Stream<Article> articles = blogRepository.streamAll()) {
+            List<Article> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<Article> iterator = articles.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE) {
+                    chunkConsumer.accept(chunk);
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+            }
+        }
+    }
+
+    // 자주 읽히는 글은 캐시에서 바로 반환, 캐시에 없을 때만 DB 조회 후 캐시에 저장(read-through)
+    // sync = true : 같은 id를 동시에 조회하면 한 번만 DB를 조회, 조회 중에 evict가 들어오면 조회가 끝난 뒤 제거됨
+    // 엔티티가 아니라 조회 시점의 값을 복사한 불변 객체(ArticleSnapshot)를 캐시 -> 여러 요청 스레드가 안전하게 공유
+    @Cacheable(cacheNames = CacheConfig.ARTICLE_CACHE, key = "#id", sync = true)
+    public ArticleSnapshot findById(long id) {
         // JpaRepository가 제공하는 메서드, DB에서 ID를 기준으로 데이터 조회
         /** 반환값
          * - Optional<Article> - 조회 결과를 감싸는 Optional 객체
@@ -43,26 +225,125 @@ public class BlogService {
          * - 데이터 없으면 비어있는 Optional을 반환
          */
         return blogRepository.findById(id)
+                .map(ArticleSnapshot::new)
                 // Optional에 값이 있으면 반환 없으면 예외 던짐
                 // 아래 예외 : 잘못된 매개변수가 입력되었음을 나타냄
                 .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
     }
 
-    // 블로그 글의 ID를 받은 뒤 JPA에서 제공하는 deleteById() 메서드를 이용해 DB에서 데이터 삭제
+    // 글의 버전과 수정 시간만 조회, 조건부 요청에서 본문을 읽지 않고 변경 여부를 판단할 때 사용
+    public ArticleValidators findValidators(long id) {
+        return blogRepository.findValidatorsById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+    }
+
+    // 조회수 : DB에 반영된 값 + 메모리에 모아두고 아직 반영하지 않은 증가분
+    // 글 캐시(ArticleSnapshot)에는 조회수를 두지 않음 -> 조회수를 반영할 때마다 캐시를 지우지 않아도 됨
+    public long findViewCount(long id) {
+        long stored = blogRepository.findViewCountById(id)
+                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+        return stored + articleViewCounter.pending(id);
+    }
+
+    // 아직 DB에 반영하지 않은 조회수 증가분, 이미 읽어온 엔티티의 조회수에 더해서 사용 (내보내기)
+    public long findPendingViewCount(long id) {
+        return articleViewCounter.pending(id);
+    }
+
+    // 조회수 1 증가, 메모리에 모았다가 주기적으로 DB에 반영하므로 조회 응답이 늦어지지 않음
+    // 인기 글 집계에도 함께 기록
+    public void increaseViewCount(long id) {
+        articleViewCounter.increment(id);
+        popularArticles.record(id);
+    }
+
+    // 기간 동안 가장 많이 조회된 글 목록, 주기적으로 계산해둔 결과를 반환
+    public List<PopularArticleResponse> findPopular(PopularArticles.Window window) {
+        return popularArticles.top(window);
+    }
+
+    // 글 목록의 현재 버전, 글이 추가/수정/삭제되면 바뀜
+    public String listVersion() {
+        return articleListCache.version();
+    }
+
+    // 블로그 글의 ID를 받은 뒤 글을 조회하지 않고 DELETE 한 번으로 DB에서 데이터 삭제
+    // 삭제가 커밋된 뒤 캐시에서도 제거
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE_CACHE, key = "#id")
+    @Transactional
     public void delete(long id) {
-        blogRepository.deleteById(id);
-        // id에 해당하는 데이터가 없으면 EmptyResultDataAccessException 예외를 던짐
+        // id에 해당하는 데이터가 없으면 아무것도 삭제하지 않음 (deleteById()와 같은 동작)
+        blogRepository.deleteDirectlyById(id);
+        articleListCache.invalidate();
+        popularArticles.remove(List.of(id));
+        recordChanges(List.of(id));
+    }
+
+    // 여러 글을 삭제, 스팸 글 정리처럼 많은 글을 지울 때 사용
+    // DELETE_CHUNK_SIZE개씩 나눠 묶음마다 DELETE 한 번 + 변경 기록 배치 INSERT를 한 트랜잭션으로 커밋
+    // -> IN 조건의 길이와 한 트랜잭션이 잡는 행 잠금 수가 묶음 크기로 제한됨
+    // 반환값 : 실제로 삭제된 글의 수
+    public int deleteAll(List<Long> ids) {
+        List<Long> uniqueIds = ids.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (uniqueIds.isEmpty()) {
+            return 0;
+        }
+
+        int deleted = 0;
+        for (int from = 0; from < uniqueIds.size(); from += DELETE_CHUNK_SIZE) {
+            List<Long> chunk = uniqueIds.subList(from, Math.min(from + DELETE_CHUNK_SIZE, uniqueIds.size()));
+            deleted += transactionTemplate.execute(status -> {
+                int count = blogRepository.deleteDirectlyByIdIn(chunk);
+                recordChanges(chunk);
+                return count;
+            });
+            evictArticles(chunk);   // 묶음이 커밋된 뒤에 캐시, 인기 글에서 제거
+            popularArticles.remove(chunk);
+        }
+        articleListCache.invalidate();
+        return deleted;
+    }
+
+    // 글 캐시에서 여러 글을 한 번에 제거, 스프링 Cache에는 여러 키를 제거하는 메서드가 없어 Caffeine 캐시를 직접 사용
+    @SuppressWarnings("unchecked")
+    private void evictArticles(Collection<Long> ids) {
+        Cache articleCache = cacheManager.getCache(CacheConfig.ARTICLE_CACHE);
+        if (articleCache != null) {
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) articleCache.getNativeCache())
+                    .invalidateAll(ids);
+        }
     }
 
     // repository를 사용해 글 수정
     // 매칭한 메서드를 하나의 트랜잭션으로 묶는 역할
+    // 글을 조회하지 않고 UPDATE 한 번으로 수정 -> 자동 저장처럼 자주 호출돼도 SELECT와 스냅샷 비교 비용이 없음
+    // version : 수정할 글을 읽었을 때의 버전, 그 사이에 다른 사용자가 먼저 수정했으면 덮어쓰지 않고 409 Conflict
+    // 수정이 커밋된 뒤 캐시에서 제거 -> 다음 조회 때 수정된 글을 다시 읽어옴
+    @CacheEvict(cacheNames = CacheConfig.ARTICLE_CACHE, key = "#id")
     @Transactional
-    public Article update(long id, UpdateArticleRequest request) {
-        Article article = blogRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("not found: " + id));
+    public ArticleResponse update(long id, long version, UpdateArticleRequest request) {
+        int updated = blogRepository.updateById(id, version, request.getTitle(), request.getContent(),
+                LocalDateTime.now());
+        if (updated == 0) {
+            // 수정된 행이 없으면 글이 없거나 버전이 다른 경우
+            if (!blogRepository.existsById(id)) {
+                throw new IllegalArgumentException("not found: " + id);
+            }
+            throw new ArticleVersionConflictException(id);
+        }
+        articleListCache.invalidate();
+        recordChanges(List.of(id));
 
-        article.update(request.getTitle(), request.getContent());
+        return new ArticleResponse(id, request.getTitle(), request.getContent(), version + 1);
+    }
 
-        return article;
+    // 검색 색인처럼 글에서 파생된 데이터의 갱신은 요청 스레드에서 하지 않고 변경 기록(아웃박스)만 같은 트랜잭션에 저장
+    // 커밋되면 이벤트를 받은 ArticleOutboxProcessor가 백그라운드에서 묶음으로 처리
+    private void recordChanges(Collection<Long> articleIds) {
+        articleOutboxRepository.saveAll(articleIds.stream().map(ArticleOutbox::new).toList());
+        eventPublisher.publishEvent(new ArticleChangedEvent());
     }
 }
@@ -0,0 +1,236 @@
+package me.nyungnim.blog.service;
+
+import me.nyungnim.blog.domain.repository.ArticleTitle;
+import me.nyungnim.blog.domain.repository.BlogRepository;
+import me.nyungnim.blog.dto.PopularArticleResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/** 인기 글 (기간별 조회수 상위 K개)
+ * - 조회수를 시간 구간(bucket)별로 메모리에 누적 : 최근 1시간은 1분 구간 60개, 최근 24시간은 1시간 구간 24개
+ *   구간은 원형 배열로 재사용, 오래된 구간은 다음에 같은 자리를 쓸 때 새 구간으로 교체
+ * - 주기적으로 기간 안의 구간을 합쳐 크기 K의 힙으로 상위 K개만 골라 스냅샷으로 저장
+ * - 요청은 저장된 스냅샷을 그대로 반환 -> DB 조회, 정렬 없이 메모리에서 바로 응답
+ * - 삭제된 글은 구간과 스냅샷에서 바로 제거, 그래도 남아 있으면(다른 경로로 삭제) 계산할 때 빼고 다음 순위로 채움
+ */
+
+@Component
+public class PopularArticles {
+
+    // 인기 글 조회 기간, 기간마다 구간 길이와 구간 수가 다름
+    public enum Window {
+        HOUR("1h", Duration.ofMinutes(1), 60),
+        DAY("24h", Duration.ofHours(1), 24);
+
+        private final String value;
+        private final Duration bucketLength;
+        private final int buckets;
+
+        Window(String value, Duration bucketLength, int buckets) {
+            this.value = value;
+            this.bucketLength = bucketLength;
+            this.buckets = buckets;
+        }
+
+        // 요청 파라미터(1h, 24h)에 해당하는 기간, 없으면 null
+        public static Window of(String value) {
+            for (Window window : values()) {
+                if (window.value.equals(value)) {
+                    return window;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final BlogRepository blogRepository;
+    private final int size;
+    private final Map<Window, BucketRing> rings = new EnumMap<>(Window.class);
+    private volatile Map<Window, List<PopularArticleResponse>> snapshots = Map.of();
+
+    public PopularArticles(BlogRepository blogRepository, @Value("${blog.popular.size:10}") int size) {
+        this.blogRepository = blogRepository;
+        this.size = size;
+        for (Window window : Window.values()) {
+            rings.put(window, new BucketRing(window));
+        }
+    }
+
+    // 조회 1건 기록, 모든 기간의 현재 구간에 더함
+    public void record(long articleId) {
+        long now = System.currentTimeMillis();
+        rings.values().forEach(ring -> ring.increment(articleId, now));
+    }
+
+    // 가장 최근에 계산한 인기 글 목록
+    public List<PopularArticleResponse> top(Window window) {
+        return snapshots.getOrDefault(window, List.of());
+    }
+
+    // 삭제된 글의 조회 기록을 제거, 트랜잭션 안이면 커밋된 뒤에 제거
+    public void remove(Collection<Long> articleIds) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeNow(articleIds);
+                }
+            });
+        } else {
+            removeNow(articleIds);
+        }
+    }
+
+    // 모든 조회 기록과 스냅샷을 비움
+    public void clear() {
+        rings.values().forEach(BucketRing::clear);
+        snapshots = Map.of();
+    }
+
+    // 기간별 상위 K개를 다시 계산해서 스냅샷 교체, 제목은 상위 K개의 글만 id, 제목 프로젝션으로 조회
+    // 상위 K개 중 조회되지 않는(삭제된) 글이 있으면 구간에서 지우고 다시 골라 K개를 채움
+    @Scheduled(fixedDelayString = "${blog.popular.refresh-interval:PT10S}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        Map<Window, Map<Long, Long>> sums = new EnumMap<>(Window.class);
+        rings.forEach((window, ring) -> sums.put(window, ring.sum(now)));
+
+        Map<Long, String> titles = new HashMap<>();
+        Map<Window, List<Map.Entry<Long, Long>>> tops = new EnumMap<>(Window.class);
+        while (true) {
+            sums.forEach((window, counts) -> tops.put(window, topK(counts)));
+            Set<Long> unknown = tops.values().stream()
+                    .flatMap(List::stream)
+                    .map(Map.Entry::getKey)
+                    .filter(id -> !titles.containsKey(id))
+                    .collect(Collectors.toSet());
+            if (unknown.isEmpty()) {
+                break;
+            }
+            blogRepository.findTitlesByIdIn(unknown)
+                    .forEach(article -> titles.put(article.getId(), article.getTitle()));
+            unknown.removeAll(titles.keySet());
+            if (unknown.isEmpty()) {
+                break;
+            }
+            // 삭제된 글 : 이번 계산과 구간 양쪽에서 제거
+            sums.values().forEach(counts -> counts.keySet().removeAll(unknown));
+            rings.values().forEach(ring -> ring.remove(unknown));
+        }
+
+        Map<Window, List<PopularArticleResponse>> next = new EnumMap<>(Window.class);
+        tops.forEach((window, top) -> next.put(window, top.stream()
+                .map(entry -> new PopularArticleResponse(entry.getKey(), titles.get(entry.getKey()),
+                        entry.getValue()))
+                .toList()));
+        snapshots = next;
+    }
+
+    private void removeNow(Collection<Long> articleIds) {
+        Set<Long> ids = Set.copyOf(articleIds);
+        rings.values().forEach(ring -> ring.remove(ids));
+        Map<Window, List<PopularArticleResponse>> next = new EnumMap<>(Window.class);
+        snapshots.forEach((window, top) -> next.put(window, top.stream()
+                .filter(article -> !ids.contains(article.getId()))
+                .toList()));
+        snapshots = next;
+    }
+
+    // 크기 K의 최소 힙으로 조회수 상위 K개만 남김 -> 전체 정렬 O(n log n) 대신 O(n log K)
+    private List<Map.Entry<Long, Long>> topK(Map<Long, Long> counts) {
+        Comparator<Map.Entry<Long, Long>> byViews = Map.Entry.comparingByValue();
+        PriorityQueue<Map.Entry<Long, Long>> heap = new PriorityQueue<>(size + 1, byViews);
+        for (Map.Entry<Long, Long> entry : counts.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > size) {
+                heap.poll();
+            }
+        }
+        List<Map.Entry<Long, Long>> top = new ArrayList<>(heap);
+        top.sort(byViews.reversed());
+        return top;
+    }
+
+    // 한 기간의 구간들을 담는 원형 배열
+    private static class BucketRing {
+
+        private final long bucketMillis;
+        private final AtomicReferenceArray<Bucket> buckets;
+
+        BucketRing(Window window) {
+            this.bucketMillis = window.bucketLength.toMillis();
+            this.buckets = new AtomicReferenceArray<>(window.buckets);
+        }
+
+        void increment(long articleId, long now) {
+            bucket(now / bucketMillis).counts.computeIfAbsent(articleId, id -> new LongAdder()).increment();
+        }
+
+        void remove(Collection<Long> articleIds) {
+            for (int i = 0; i < buckets.length(); i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null) {
+                    bucket.counts.keySet().removeAll(articleIds);
+                }
+            }
+        }
+
+        void clear() {
+            for (int i = 0; i < buckets.length(); i++) {
+                buckets.set(i, null);
+            }
+        }
+
+        // 기간 안에 있는 구간들의 글별 조회수 합계
+        Map<Long, Long> sum(long now) {
+            long current = now / bucketMillis;
+            Map<Long, Long> counts = new HashMap<>();
+            for (int i = 0; i < buckets.length(); i++) {
+                Bucket bucket = buckets.get(i);
+                if (bucket != null && current - bucket.epoch < buckets.length()) {
+                    bucket.counts.forEach((id, views) -> counts.merge(id, views.sum(), Long::sum));
+                }
+            }
+            return counts;
+        }
+
+        // 현재 시각의 구간, 자리에 오래된 구간이 있으면 새 구간으로 교체
+        private Bucket bucket(long epoch) {
+            int index = (int) (epoch % buckets.length());
+            while (true) {
+                Bucket bucket = buckets.get(index);
+                if (bucket != null && bucket.epoch == epoch) {
+                    return bucket;
+                }
+                Bucket fresh = new Bucket(epoch);
+                if (buckets.compareAndSet(index, bucket, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+    }
+
+    private record Bucket(long epoch, ConcurrentHashMap<Long, LongAdder> counts) {
+        Bucket(long epoch) {
+            this(epoch, new ConcurrentHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package me.nyungnim.blog.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import me.nyungnim.blog.domain.RefreshToken;
+import me.nyungnim.blog.domain.repository.RefreshTokenRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/** 리프레시 토큰 해시 컬럼 마이그레이션
+ * refresh_token_hash 컬럼이 추가되기 전에 저장된 리프레시 토큰은 해시 값이 비어있어 조회되지 않음
+ * 애플리케이션 시작 시 해시가 비어있는 행을 BATCH_SIZE 단위로 나눠 채움, 모두 채워진 뒤에는 조회 한 번으로 끝남
+ */
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RefreshTokenHashBackfill implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long total = 0;
+        int updated;
+        do {
+            // 묶음마다 트랜잭션을 나눠 커밋 -> 행이 많아도 한 트랜잭션이 너무 길어지지 않음
+            updated = transactionTemplate.execute(status -> backfillBatch());
+            total += updated;
+        } while (updated == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Backfilled refresh_token_hash for {} refresh tokens", total);
+        }
+    }
+
+    private int backfillBatch() {
+        List<RefreshToken> tokens = refreshTokenRepository.findByRefreshTokenHashIsNull(PageRequest.of(0, BATCH_SIZE));
+        // 같은 토큰으로 update()를 호출해 해시만 채움, 트랜잭션 커밋 시 변경 감지로 UPDATE
+        tokens.forEach(token -> token.update(token.getRefreshToken()));
+        return tokens.size();
+    }
+}
@@ -2,9 +2,14 @@ package me.nyungnim.blog.service;
 
 import lombok.RequiredArgsConstructor;
 import me.nyungnim.blog.domain.RefreshToken;
+import me.nyungnim.blog.domain.repository.RefreshTokenOwner;
 import me.nyungnim.blog.domain.repository.RefreshTokenRepository;
+import me.nyungnim.blog.util.HashUtil;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 
 // 전달받은 리프레시 토큰으로 리프레시 토큰 객체를 검색해서 전달하는 메서드 구현
 
@@ -13,8 +18,23 @@ import org.springframework.stereotype.Service;
 public class RefreshTokenService {
     private final RefreshTokenRepository refreshTokenRepository;
 
+    // 토큰의 해시로 인덱스를 타고 조회 -> 저장된 토큰 수가 많아도 O(log n)
+    // 조회한 토큰의 원문을 상수 시간 비교로 한 번 더 확인
     public RefreshToken findByRefreshToken(String refreshToken) {
-        return refreshTokenRepository.findByRefreshToken(refreshToken)
+        return refreshTokenRepository.findByRefreshTokenHash(HashUtil.sha256Hex(refreshToken))
+                .filter(token -> matches(token.getRefreshToken(), refreshToken))
+                .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
+    }
+
+    // 리프레시 토큰으로 토큰 주인의 id, email을 한 번의 조인 쿼리로 조회
+    public RefreshTokenOwner findOwnerByRefreshToken(String refreshToken) {
+        return refreshTokenRepository.findOwnerByRefreshTokenHash(HashUtil.sha256Hex(refreshToken))
+                .filter(owner -> matches(owner.getRefreshToken(), refreshToken))
                 .orElseThrow(() -> new IllegalArgumentException("Unexpected token"));
     }
+
+    private boolean matches(String storedToken, String refreshToken) {
+        return MessageDigest.isEqual(storedToken.getBytes(StandardCharsets.UTF_8),
+                refreshToken.getBytes(StandardCharsets.UTF_8));
+    }
 }
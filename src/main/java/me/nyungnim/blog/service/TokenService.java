@@ -1,31 +1,31 @@
 package me.nyungnim.blog.service;
 
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import me.nyungnim.blog.config.jwt.TokenProvider;
-import me.nyungnim.blog.domain.User;
+import me.nyungnim.blog.domain.repository.RefreshTokenOwner;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 
+@Timed("blog.service")   // public 메서드별 실행 시간 기록 (class, method 태그), /actuator/prometheus로 노출
 @RequiredArgsConstructor
 @Service
 public class TokenService {
 
     private final TokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
-    private final UserService userService;
 
-    // 전달받은 리프레시 토큰으로 토큰 유효성 검사 진행 -> 유효한 토큰일 때 리프레시 토큰으로 사용자 ID 찾기
-    // 마지막으로는 사용자 ID로 사용자를 찾은 후 토큰 제공자의 generateToken() 메서드를 호출해서 새로운 액세스 토큰 생성
+    // 전달받은 리프레시 토큰으로 토큰 유효성 검사 진행 -> 유효한 토큰일 때 리프레시 토큰으로 사용자 ID, email 찾기
+    // 리프레시 토큰 조회와 사용자 조회를 조인 쿼리 한 번으로 처리한 뒤 토큰 제공자의 generateToken() 메서드를 호출해서 새로운 액세스 토큰 생성
     public String createNewAccessToken(String refreshToken) {
         // 토큰 유효성 검사에 실패하면 예외 발생
         if (!tokenProvider.validToken(refreshToken)) {
             throw new IllegalArgumentException("Unexcepted token");
         }
-        Long userId = refreshTokenService.findByRefreshToken(refreshToken).getUserId();
-        User user = userService.findById(userId);
+        RefreshTokenOwner owner = refreshTokenService.findOwnerByRefreshToken(refreshToken);
 
-        return tokenProvider.generateToken(user, Duration.ofHours(2));
+        return tokenProvider.generateToken(owner.getUserId(), owner.getEmail(), Duration.ofHours(2));
     }
 }
@@ -1,22 +1,54 @@
 package me.nyungnim.blog.service;
 
 import lombok.RequiredArgsConstructor;
+import me.nyungnim.blog.config.CacheConfig;
 import me.nyungnim.blog.domain.User;
 import me.nyungnim.blog.domain.repository.UserRepository;
+import me.nyungnim.blog.dto.UserSnapshot;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Service
 //스프링 시큐리티에서 사용자 정보를 가져오는 인터페이스, 사용자 인증 처리 시 사용된다.
-public class UserDetailService implements UserDetailsService {
+// UserDetailsPasswordService : 로그인 성공 시 비밀번호 해시를 새 강도로 다시 저장할 때 사용
+public class UserDetailService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
     @Override
     // 사용자 이름(email)으로 사용자의 정보를 가져오는 메서드
-    public User loadUserByUsername(String email) {
+    // 로그인할 때마다 DB를 조회하지 않도록 캐시, 사용자 정보가 바뀌면 UserService, OAuth2UserCustomService에서 캐시 제거
+    // 엔티티가 아니라 조회 시점의 값을 복사한 불변 객체(UserSnapshot)를 캐시 -> 여러 요청 스레드와 세션이 안전하게 공유
+    @Cacheable(cacheNames = CacheConfig.USER_CACHE, key = "#email", sync = true)
+    public UserSnapshot loadUserByUsername(String email) {
         return userRepository.findByEmail(email)
+                .map(UserSnapshot::new)
                 .orElseThrow(() -> new IllegalArgumentException((email)));
     }
+
+    // email로 사용자 조회, 로그인과 같은 캐시를 사용 (OAuth2 로그인에서 이름이 바뀌었는지 확인할 때 사용)
+    // 없는 사용자는 캐시하지 않음 -> 가입한 뒤에 바로 조회됨
+    @Cacheable(cacheNames = CacheConfig.USER_CACHE, key = "#email", unless = "#result == null")
+    public Optional<UserSnapshot> findByEmail(String email) {
+        return userRepository.findByEmail(email)
+                .map(UserSnapshot::new);
+    }
+
+    @Override
+    // 로그인에 성공한 사용자의 비밀번호 해시를 새 해시로 바꿔 저장, 캐시된 사용자 정보도 제거
+    @CacheEvict(cacheNames = CacheConfig.USER_CACHE, key = "#user.username")
+    @Transactional
+    public UserSnapshot updatePassword(UserDetails user, String newPassword) {
+        User entity = userRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new IllegalArgumentException((user.getUsername())));
+        return new UserSnapshot(entity.updatePassword(newPassword));
+    }
 }
@@ -1,10 +1,12 @@
 package me.nyungnim.blog.service;
 
 import lombok.RequiredArgsConstructor;
+import me.nyungnim.blog.config.CacheConfig;
 import me.nyungnim.blog.domain.User;
 import me.nyungnim.blog.domain.repository.UserRepository;
 import me.nyungnim.blog.dto.AddUserRequest;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 
@@ -13,15 +15,18 @@ import org.springframework.stereotype.Service;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    // BCrypt 해시를 전용 스레드 풀에서 실행하는 인코더 (PasswordEncoderConfig)
+    private final PasswordEncoder passwordEncoder;
 
     // DTO를 받아 새로운 사용자를 저장, 저장한 고유ID를 반환하는 메서드
+    // 같은 email로 캐시된 사용자 정보가 남아있지 않도록 저장 후 캐시에서 제거
+    @CacheEvict(cacheNames = CacheConfig.USER_CACHE, key = "#dto.email")
     public Long save(AddUserRequest dto) {
         // JPA의 save 메서드를 호출해 User 엔티티를 데이터베이스에 저장
         return userRepository.save(User.builder()
                 .email(dto.getEmail())
                 // 패스워드 암호화, 패스워드를 저장할 때 시큐리티를 설정하며 패스워드 인코딩용으로 등록한 빈을 사용해서 암호화한 후에 저장
-                .password(bCryptPasswordEncoder.encode(dto.getPassword()))
+                .password(passwordEncoder.encode(dto.getPassword()))
                 .build()).getId();
     }
 
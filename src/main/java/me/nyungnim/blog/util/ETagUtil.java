@@ -0,0 +1,69 @@
+package me.nyungnim.blog.util;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+// HTTP 조건부 요청(ETag, Last-Modified) 검증값 관리 클래스
+public class ETagUtil {
+
+    // 글 하나의 강한(strong) ETag : id와 버전으로 만듦, 글이 수정되면 버전이 올라가 값이 바뀜
+    public static String article(Long id, Long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    // 글 화면의 약한(weak) ETag : 화면에는 버전과 상관없이 바뀌는 조회수가 함께 표시됨
+    // -> 조회수만 다른 화면은 같은 글로 보고(304) 다시 렌더링하지 않음, 강한 비교(If-Match)에는 사용하지 않음
+    public static String articlePage(Long id, Long version) {
+        return "W/" + article(id, version);
+    }
+
+    // If-Match 헤더에서 이 글의 강한 ETag에 담긴 버전을 모두 꺼냄 (ETag 여러 개를 쉼표로 나열할 수 있음)
+    // If-Match는 강한 비교만 하므로 약한(W/) ETag는 일치하지 않음, *와 이 글의 ETag 형식이 아닌 값도 건너뜀
+    public static List<Long> articleVersions(Long id, String ifMatch) {
+        List<Long> versions = new ArrayList<>();
+        for (String eTag : ifMatch.split(",")) {
+            Long version = articleVersion(id, eTag.trim());
+            if (version != null) {
+                versions.add(version);
+            }
+        }
+        return versions;
+    }
+
+    // 강한 ETag에서 글 버전을 꺼냄, 이 글의 ETag 형식이 아니면 null
+    private static Long articleVersion(Long id, String eTag) {
+        String prefix = "\"" + id + "-";
+        if (!eTag.startsWith(prefix) || !eTag.endsWith("\"") || eTag.length() <= prefix.length() + 1) {
+            return null;
+        }
+        try {
+            return Long.parseLong(eTag.substring(prefix.length(), eTag.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    // 글 목록의 ETag : 목록 캐시의 버전(인스턴스 + 세대 번호)으로 만듦, 글이 추가/수정/삭제되면 값이 바뀜
+    public static String articleList(String listVersion) {
+        return "\"list-" + listVersion + "\"";
+    }
+
+    // Last-Modified 헤더에 사용할 수정 시간(epoch millis), 수정 시간이 없으면 -1 (검증하지 않음)
+    public static long lastModified(LocalDateTime updatedAt) {
+        if (updatedAt == null) {
+            return -1;
+        }
+        return updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 요청에 If-None-Match 또는 If-Modified-Since 헤더가 있는지 확인
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+}
@@ -0,0 +1,20 @@
+package me.nyungnim.blog.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// 해시 관리 클래스
+public class HashUtil {
+
+    // 문자열을 SHA-256으로 해시해 16진수 문자열(64자)로 변환
+    public static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {  // 모든 자바 구현체는 SHA-256을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -36,10 +36,16 @@ if (modifyButton) {
             },
             body: JSON.stringify({
                 title: document.getElementById('title').value,
-                content: document.getElementById('content').value
+                content: document.getElementById('content').value,
+                version: document.getElementById('article-version').value
             })
         })
-            .then(() => {
+            .then(response => {
+                // 수정 화면을 연 뒤에 다른 사용자가 먼저 글을 수정한 경우
+                if (response.status === 409) {
+                    alert('다른 사용자가 먼저 글을 수정했습니다. 새로고침 후 다시 수정해주세요.');
+                    return;
+                }
                 alert('수정이 완료되었습니다.');
                 location.replace(`/articles/${id}`);
             });
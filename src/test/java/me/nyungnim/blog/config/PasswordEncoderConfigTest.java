@@ -0,0 +1,42 @@
+package me.nyungnim.blog.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordEncoderConfigTest {
+
+    @DisplayName("calibrateStrength() : 목표 시간이 아무리 짧아도 최소 강도 아래로 내려가지 않는다.")
+    @Test
+    void calibrateStrength_minimum() {
+        assertThat(PasswordEncoderConfig.calibrateStrength(Duration.ZERO))
+                .isEqualTo(PasswordEncoderConfig.MIN_STRENGTH);
+    }
+
+    @DisplayName("calibrateStrength() : 목표 시간이 아무리 길어도 최대 강도를 넘지 않는다.")
+    @Test
+    void calibrateStrength_maximum() {
+        assertThat(PasswordEncoderConfig.calibrateStrength(Duration.ofHours(1)))
+                .isEqualTo(PasswordEncoderConfig.MAX_STRENGTH);
+    }
+
+    @DisplayName("selectStrength() : 강도를 지정하면 측정하지 않고 지정한 강도를 사용한다.")
+    @Test
+    void selectStrength_configured() {
+        assertThat(PasswordEncoderConfig.selectStrength(12, Duration.ZERO)).isEqualTo(12);
+    }
+
+    @DisplayName("selectStrength() : 허용 범위를 벗어난 강도를 지정하면 시작하지 않는다.")
+    @Test
+    void selectStrength_outOfRange() {
+        assertThatThrownBy(() -> PasswordEncoderConfig.selectStrength(PasswordEncoderConfig.MIN_STRENGTH - 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("blog.password.strength");
+        assertThatThrownBy(() -> PasswordEncoderConfig.selectStrength(PasswordEncoderConfig.MAX_STRENGTH + 1, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
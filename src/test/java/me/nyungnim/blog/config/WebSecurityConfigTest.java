@@ -0,0 +1,184 @@
+package me.nyungnim.blog.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import me.nyungnim.blog.config.jwt.JwtFactory;
+import me.nyungnim.blog.config.jwt.JwtProperties;
+import me.nyungnim.blog.config.password.PasswordHashingBusyException;
+import me.nyungnim.blog.domain.User;
+import me.nyungnim.blog.domain.repository.UserRepository;
+import me.nyungnim.blog.dto.UserSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 로그인 요청은 보안 필터 체인을 거침, 필터 체인이 H2 콘솔 경로를 참조하므로 H2 콘솔 설정이 필요
+@SpringBootTest(properties = "spring.h2.console.enabled=true")
+@AutoConfigureMockMvc
+class WebSecurityConfigTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JwtProperties jwtProperties;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @SpyBean
+    PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setUp() {
+        userRepository.deleteAll();
+        cacheManager.getCache(CacheConfig.USER_CACHE).clear();
+    }
+
+    @DisplayName("login : 사용자 엔티티 대신 불변 사용자 정보를 캐시하고 세션의 인증 정보로 사용한다.")
+    @Test
+    public void loginCachesUserSnapshot() throws Exception {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("snapshot@gmail.com")
+                .password(passwordEncoder.encode("test"))
+                .nickname("snapshot")
+                .build());
+
+        // when
+        MvcResult result = mockMvc.perform(post("/login")
+                        .param("username", "snapshot@gmail.com")
+                        .param("password", "test"))
+                .andExpect(status().isFound())
+                .andReturn();
+
+        // then : 캐시와 세션에 같은 불변 객체가 저장되고, 로그인 후에도 비밀번호 해시가 지워지지 않음
+        Object cached = cacheManager.getCache(CacheConfig.USER_CACHE).get("snapshot@gmail.com").get();
+        assertThat(cached).isInstanceOf(UserSnapshot.class);
+        assertThat(((UserSnapshot) cached).getId()).isEqualTo(user.getId());
+        assertThat(((UserSnapshot) cached).getNickname()).isEqualTo("snapshot");
+        assertThat(((UserSnapshot) cached).getPassword()).isEqualTo(user.getPassword());
+        SecurityContext context = (SecurityContext) result.getRequest().getSession()
+                .getAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY);
+        assertThat(context.getAuthentication().getPrincipal()).isSameAs(cached);
+    }
+
+    @DisplayName("login : 저장된 비밀번호 해시의 강도가 현재 설정보다 낮으면 로그인에 성공할 때 새 강도로 다시 저장한다.")
+    @Test
+    public void loginRehashesWeakPassword() throws Exception {
+        // given : 강도 4로 해시된 (설정 변경 이전에 저장된) 비밀번호
+        userRepository.save(User.builder()
+                .email("rehash@gmail.com")
+                .password(new BCryptPasswordEncoder(4).encode("test"))
+                .build());
+
+        // when
+        mockMvc.perform(post("/login")
+                        .param("username", "rehash@gmail.com")
+                        .param("password", "test"))
+                .andExpect(status().isFound())
+                .andExpect(redirectedUrl("/articles"));
+
+        // then : 같은 비밀번호로 검증되는 더 높은 강도의 해시로 바뀜
+        String password = userRepository.findByEmail("rehash@gmail.com").get().getPassword();
+        assertThat(strength(password)).isGreaterThanOrEqualTo(10);
+        assertThat(passwordEncoder.upgradeEncoding(password)).isFalse();
+        assertThat(passwordEncoder.matches("test", password)).isTrue();
+    }
+
+    @DisplayName("login : 비밀번호 검증 대기열이 가득 차면 로그인 페이지로 보내지 않고 503으로 응답한다.")
+    @Test
+    public void loginWhenPasswordHashingBusy() throws Exception {
+        // given
+        userRepository.save(User.builder()
+                .email("busy@gmail.com")
+                .password(new BCryptPasswordEncoder(4).encode("test"))
+                .build());
+        doThrow(new PasswordHashingBusyException("Too many password hashing requests"))
+                .when(passwordEncoder).matches(any(), anyString());
+
+        // when & then
+        mockMvc.perform(post("/login")
+                        .param("username", "busy@gmail.com")
+                        .param("password", "test"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @DisplayName("token : Authorization 헤더의 액세스 토큰으로 로그인 없이 인증하고 검증 시간을 기록한다.")
+    @Test
+    public void authenticateWithAccessToken() throws Exception {
+        // given
+        User user = userRepository.save(User.builder()
+                .email("token@gmail.com")
+                .password("test")
+                .build());
+        String token = JwtFactory.builder()
+                .subject(user.getEmail())
+                .claims(Map.of("id", user.getId()))
+                .build()
+                .createToken(jwtProperties);
+        long before = verifyCount("authenticated");
+
+        // when & then
+        mockMvc.perform(get("/api/articles")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        assertThat(verifyCount("authenticated")).isEqualTo(before + 1);
+    }
+
+    @DisplayName("token : 토큰이 없거나 유효하지 않으면 로그인 페이지로 보낸다.")
+    @Test
+    public void rejectWithoutValidAccessToken() throws Exception {
+        long before = verifyCount("rejected");
+
+        mockMvc.perform(get("/api/articles"))
+                .andExpect(status().isFound());
+        mockMvc.perform(get("/api/articles")
+                        .header("Authorization", "Bearer invalid"))
+                .andExpect(status().isFound());
+        assertThat(verifyCount("rejected")).isEqualTo(before + 1);
+    }
+
+    @DisplayName("actuator : 액추에이터는 별도 관리 포트에서만 실행되므로 서비스 포트에서는 메트릭을 노출하지 않는다.")
+    @Test
+    public void prometheusNotExposedOnServerPort() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isNotFound());
+    }
+
+    private long verifyCount(String result) {
+        return meterRegistry.get("jwt.verify").tag("result", result).timer().count();
+    }
+
+    // BCrypt 해시 형식 $2a$<강도>$... 에서 강도를 읽음
+    private int strength(String encodedPassword) {
+        return Integer.parseInt(encodedPassword.substring(4, 6));
+    }
+}
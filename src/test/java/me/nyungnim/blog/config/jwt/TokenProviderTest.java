@@ -107,4 +107,74 @@ public class TokenProviderTest {
         // then
         assertThat(userIdByToken).isEqualTo(userId);
     }
+
+    @DisplayName("verify() : 유효한 토큰을 한 번에 검증하고 Claims를 가져올 수 있다.")
+    @Test
+    void verify_validToken() {
+        // given
+        String userEmail = "user@gmail.com";
+        String token = JwtFactory.builder()
+                .subject(userEmail)
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        TokenVerification verification = tokenProvider.verify(token);
+
+        // then
+        assertThat(verification.getStatus()).isEqualTo(TokenVerification.Status.VALID);
+        assertThat(verification.getClaims().getSubject()).isEqualTo(userEmail);
+    }
+
+    @DisplayName("verify() : 만료된 토큰은 만료(EXPIRED) 결과를 반환한다.")
+    @Test
+    void verify_expiredToken() {
+        // given
+        String token = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        TokenVerification verification = tokenProvider.verify(token);
+
+        // then
+        assertThat(verification.getStatus()).isEqualTo(TokenVerification.Status.EXPIRED);
+        assertThat(verification.getClaims()).isNull();
+    }
+
+    @DisplayName("authenticate() : 같은 토큰은 검증 캐시에서 같은 인증 정보를 가져온다.")
+    @Test
+    void authenticate_cached() {
+        // given
+        String userEmail = "cached@gmail.com";
+        String token = JwtFactory.builder()
+                .subject(userEmail)
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        Authentication first = tokenProvider.authenticate(token);
+        Authentication second = tokenProvider.authenticate(token);
+
+        // then
+        assertThat(((UserDetails) first.getPrincipal()).getUsername()).isEqualTo(userEmail);
+        assertThat(second).isSameAs(first);
+    }
+
+    @DisplayName("authenticate() : 만료된 토큰은 인증 정보를 반환하지 않는다.")
+    @Test
+    void authenticate_expiredToken() {
+        // given
+        String token = JwtFactory.builder()
+                .expiration(new Date(new Date().getTime() - Duration.ofDays(7).toMillis()))
+                .build()
+                .createToken(jwtProperties);
+
+        // when
+        Authentication authentication = tokenProvider.authenticate(token);
+
+        // then
+        assertThat(authentication).isNull();
+    }
 }
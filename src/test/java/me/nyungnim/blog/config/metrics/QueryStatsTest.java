@@ -0,0 +1,41 @@
+package me.nyungnim.blog.config.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryStatsTest {
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        QueryStats.clear();
+        executor.shutdownNow();
+    }
+
+    @DisplayName("propagate() : 다른 스레드에서 실행한 SQL도 요청의 집계에 더하고, 끝나면 그 스레드에서 제거한다.")
+    @Test
+    void propagate() {
+        // given
+        QueryStats stats = QueryStats.start();
+
+        // when : 캐시 로딩처럼 다른 스레드에서 SQL 실행, 요청 스레드는 끝날 때까지 기다림
+        CompletableFuture.runAsync(QueryStats.propagate(() -> {
+            QueryStats.current().incrementQueryCount();
+            QueryStats.current().addJdbcTime(10);
+        }), executor).join();
+
+        // then
+        assertThat(stats.getQueryCount()).isEqualTo(1);
+        assertThat(stats.getJdbcNanos()).isEqualTo(10);
+        Boolean cleared = CompletableFuture.supplyAsync(() -> QueryStats.current() == null, executor).join();
+        assertThat(cleared).isTrue();
+    }
+}
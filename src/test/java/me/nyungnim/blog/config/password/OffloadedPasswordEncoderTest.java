@@ -0,0 +1,86 @@
+package me.nyungnim.blog.config.password;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OffloadedPasswordEncoderTest {
+
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    // 해시 작업이 release 신호를 받을 때까지 끝나지 않는 인코더
+    private final BCryptPasswordEncoder blockingDelegate = new BCryptPasswordEncoder(4) {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.encode(rawPassword);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+    }
+
+    @DisplayName("encode() : 해시 스레드와 대기열이 모두 차 있으면 기다리지 않고 PasswordHashingBusyException으로 거절한다.")
+    @Test
+    void encode_busy() throws Exception {
+        // given : 스레드 1개, 대기열 1칸 -> 실행 중인 작업 1개 + 대기 중인 작업 1개로 가득 참
+        OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(blockingDelegate, 1, 1);
+        FutureTask<String> running = encodeInBackground(encoder, "running");
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        FutureTask<String> queued = encodeInBackground(encoder, "queued");
+
+        // when & then
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+
+        // 대기 중이던 작업은 자리가 나면 정상 처리됨
+        release.countDown();
+        assertThat(blockingDelegate.matches("running", running.get(10, TimeUnit.SECONDS))).isTrue();
+        assertThat(blockingDelegate.matches("queued", queued.get(10, TimeUnit.SECONDS))).isTrue();
+        encoder.destroy();
+    }
+
+    @DisplayName("upgradeEncoding() : 저장된 해시의 강도가 설정된 강도보다 낮을 때만 다시 해시한다.")
+    @Test
+    void upgradeEncoding() {
+        OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1);
+
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("test"))).isTrue();
+        assertThat(encoder.upgradeEncoding(new BCryptPasswordEncoder(5).encode("test"))).isFalse();
+        encoder.destroy();
+    }
+
+    // 다른 스레드에서 encode()를 호출하고, 작업을 넘긴 뒤 결과를 기다리는 상태(WAITING)가 될 때까지 대기
+    private FutureTask<String> encodeInBackground(OffloadedPasswordEncoder encoder, String rawPassword)
+            throws InterruptedException {
+        FutureTask<String> task = new FutureTask<>(() -> encoder.encode(rawPassword));
+        Thread caller = new Thread(task, "caller-" + rawPassword);
+        caller.setDaemon(true);
+        caller.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (caller.getState() != Thread.State.WAITING && caller.getState() != Thread.State.TIMED_WAITING) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError(caller.getName() + " never submitted its task");
+            }
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        return task;
+    }
+}
@@ -1,26 +1,50 @@
 package me.nyungnim.blog.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.spi.ConnectionFactory;
+import me.nyungnim.blog.config.CacheConfig;
+import me.nyungnim.blog.config.R2dbcConfig;
+import me.nyungnim.blog.config.metrics.QueryMetricsFilter;
 import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.repository.ArticleSummary;
 import me.nyungnim.blog.domain.repository.BlogRepository;
 import me.nyungnim.blog.dto.AddArticleRequest;
+import me.nyungnim.blog.dto.DeleteArticlesRequest;
 import me.nyungnim.blog.dto.UpdateArticleRequest;
+import me.nyungnim.blog.service.ArticleListCache;
+import me.nyungnim.blog.service.ArticleViewCounter;
+import me.nyungnim.blog.service.BlogService;
+import me.nyungnim.blog.service.PopularArticles;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.containsString;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -56,6 +80,24 @@ class BlogApiControllerTest {
     @Autowired
     BlogRepository blogRepository;  // 데이터베이스와 상호작용하는 레포지토리 빈을 주입
 
+    @Autowired
+    ArticleListCache articleListCache;
+
+    @Autowired
+    ArticleViewCounter articleViewCounter;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Autowired
+    PopularArticles popularArticles;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
     @BeforeEach // 각 테스트 메서드 실행 전에 반드시 실행
     public void mockMvcSetUp() {
         // WebApplicationContext를 기반으로 MockMvc를 초기화, 테스트 중 실제 컨트롤러 빈과 매핑되는 MockMvc 설정
@@ -64,6 +106,10 @@ class BlogApiControllerTest {
         // 테스트 실행 전 데이터베이스를 비움
         // 테스트 간 데이터 간섭 방지 -> 독립적인 테스트 보장
         blogRepository.deleteAll();
+        // 레포지토리로 직접 데이터를 바꾸면 서비스의 캐시 무효화를 거치지 않으므로 목록 캐시도 직접 무효화
+        articleListCache.invalidate();
+        // 다른 테스트에서 쌓인 조회 기록이 인기 글 순위에 섞이지 않도록 비움
+        popularArticles.clear();
     }
 
     @DisplayName("addArticle: 블로그 글 추가에 성공한다.")
@@ -98,6 +144,52 @@ class BlogApiControllerTest {
         assertThat(articles.get(0).getContent()).isEqualTo(content);
     }
 
+    @DisplayName("addArticles: 여러 블로그 글을 한 번에 추가하고 항목별 결과를 반환한다.")
+    @Test
+    public void addArticles() throws Exception {
+        // given : 두 번째 항목은 제목이 없어 저장에 실패해야 함
+        final String url = "/api/articles/batch";
+        final List<AddArticleRequest> requests = List.of(
+                new AddArticleRequest("title 1", "content 1"),
+                new AddArticleRequest(null, "content 2"),
+                new AddArticleRequest("title 3", "content 3"));
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // then : 일부가 실패했으므로 207 Multi-Status, 나머지는 저장됨
+        result.andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[1].id").doesNotExist())
+                .andExpect(jsonPath("$[1].error").isString())
+                .andExpect(jsonPath("$[2].index").value(2))
+                .andExpect(jsonPath("$[2].id").isNumber());
+
+        assertThat(blogRepository.count()).isEqualTo(2);
+    }
+
+    @DisplayName("addArticles: 한 번에 추가할 수 있는 글의 수를 넘으면 하나도 저장하지 않고 413으로 응답한다.")
+    @Test
+    public void addArticlesTooMany() throws Exception {
+        // given
+        final String url = "/api/articles/batch";
+        final List<AddArticleRequest> requests = Collections.nCopies(BlogService.MAX_BATCH_SIZE + 1,
+                new AddArticleRequest("title", "content"));
+
+        // when
+        ResultActions result = mockMvc.perform(post(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(requests)));
+
+        // then
+        result.andExpect(status().isPayloadTooLarge());
+
+        assertThat(blogRepository.count()).isEqualTo(0);
+    }
+
     @DisplayName("findAllArticles: 블로그 글 목록 조회에 성공한다.") // 테스트 목적 표현
     @Test
     public void findAllArticles() throws Exception {
@@ -127,7 +219,114 @@ class BlogApiControllerTest {
                 // JSON 응답에서 첫 번째 객체의 content 필드 값이 content인지 검증
                 .andExpect(jsonPath("$[0].content").value(content))
                 // 위와 동일 내용, title인지 검증
-                .andExpect(jsonPath("$[0].title").value(title));
+                .andExpect(jsonPath("$[0].title").value(title))
+                // 목록에서는 조회하지 않는 조회수는 null 대신 필드를 빼고 응답
+                .andExpect(jsonPath("$[0].viewCount").doesNotExist());
+    }
+
+    @DisplayName("findAllArticles: 커서로 블로그 글 목록을 페이지 단위로 조회한다.")
+    @Test
+    public void findAllArticlesWithCursor() throws Exception {
+        // given : 글 3개 저장 -> 크기 2로 조회하면 두 페이지로 나뉨
+        final String url = "/api/articles";
+        for (int i = 1; i <= 3; i++) {
+            blogRepository.save(Article.builder()
+                    .title("title " + i)
+                    .content("content " + i)
+                    .build());
+        }
+
+        // when : 첫 페이지 조회
+        final MvcResult firstPage = mockMvc.perform(get(url).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+                .andReturn();
+
+        // Link 헤더에서 다음 페이지 주소를 꺼냄 : </api/articles?cursor=...&size=2>; rel="next"
+        String link = firstPage.getResponse().getHeader(HttpHeaders.LINK);
+        String nextUrl = link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+
+        // then : 다음 페이지에는 남은 글 1개만 있고 더 이상 다음 페이지가 없음
+        mockMvc.perform(get(nextUrl))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK));
+    }
+
+    @DisplayName("findAllArticles: 블로그 글 목록에는 본문 대신 미리보기가 포함된다.")
+    @Test
+    public void findAllArticlesWithExcerpt() throws Exception {
+        // given : 미리보기 길이보다 긴 본문을 가진 글 저장
+        final String url = "/api/articles";
+        final String content = "가".repeat(ArticleSummary.EXCERPT_LENGTH + 50);
+
+        blogRepository.save(Article.builder()
+                .title("title")
+                .content(content)
+                .build());
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url));
+
+        // then : 본문은 미리보기 길이만큼 잘려서 내려옴
+        resultActions
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].content").value(content.substring(0, ArticleSummary.EXCERPT_LENGTH)));
+    }
+
+    @DisplayName("searchArticles: 한국어 검색어와 일치하는 글을 관련도 순으로 조회한다.")
+    @Test
+    public void searchArticles() throws Exception {
+        // given : 제목에 검색어가 있는 글, 본문에만 있는 글, 검색어가 없는 글
+        final String url = "/api/articles";
+        for (AddArticleRequest request : List.of(
+                new AddArticleRequest("스프링 부트 입문", "처음 시작하는 백엔드 개발"),
+                new AddArticleRequest("개발 일기", "오늘은 스프링으로 블로그를 만들었다"),
+                new AddArticleRequest("여행 기록", "제주도에 다녀왔다"))) {
+            mockMvc.perform(post(url)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated());
+        }
+
+        // when & then : 색인은 커밋 후 백그라운드에서 반영되므로 반영될 때까지 기다림
+        // 조사가 붙은 검색어도 형태소 분석으로 일치, 제목에서 일치한 글이 먼저 나옴
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                mockMvc.perform(get(url + "/search")
+                                .param("q", "스프링을")
+                                .param("size", "10"))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.total").value(2))
+                        .andExpect(jsonPath("$.articles[0].title").value("스프링 부트 입문"))
+                        .andExpect(jsonPath("$.articles[1].title").value("개발 일기")));
+    }
+
+    @DisplayName("exportArticles: 전체 블로그 글을 한 줄에 하나씩 JSON으로 내보낸다.")
+    @Test
+    public void exportArticles() throws Exception {
+        // given
+        final String url = "/api/articles/export";
+        blogRepository.save(Article.builder()
+                .title("title 1")
+                .content("content 1")
+                .build());
+        blogRepository.save(Article.builder()
+                .title("title 2")
+                .content("content 2")
+                .build());
+
+        // when
+        final MvcResult result = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // then : 줄마다 글 하나씩, 저장한 순서(id 오름차순)대로 내보냄
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        assertThat(lines.length).isEqualTo(2);
+        assertThat(objectMapper.readValue(lines[0], Map.class).get("title")).isEqualTo("title 1");
+        assertThat(objectMapper.readValue(lines[1], Map.class).get("title")).isEqualTo("title 2");
     }
 
     @DisplayName("findArticle: 블로그 글 조회에 성공한다.")
@@ -154,6 +353,139 @@ class BlogApiControllerTest {
     }
 
 
+    @DisplayName("findArticle: 개발 모드에서는 요청에서 실행한 SQL 수를 응답 헤더로 알려주고 메트릭으로 기록한다.")
+    @Test
+    public void findArticleReportsQueryCount() throws Exception {
+        // given : 응답 헤더를 켠 QueryMetricsFilter를 거치도록 설정
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        MockMvc mockMvcWithQueryMetrics = MockMvcBuilders.webAppContextSetup(context)
+                .addFilters(new QueryMetricsFilter(meterRegistry, true, 20))
+                .build();
+
+        // when
+        MvcResult result = mockMvcWithQueryMetrics.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(QueryMetricsFilter.QUERY_TIME_HEADER))
+                .andReturn();
+
+        // then : 캐시에 없는 글이므로 글 조회 SQL이 실행됨
+        int queryCount = Integer.parseInt(result.getResponse().getHeader(QueryMetricsFilter.QUERY_COUNT_HEADER));
+        assertThat(queryCount).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.find("blog.request.queries").tag("uri", url).summary()).isNotNull();
+    }
+
+    @DisplayName("findArticle: 서비스 메서드 실행 시간을 메서드별 타이머로 기록한다.")
+    @Test
+    public void findArticleRecordsServiceTimer() throws Exception {
+        // given
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        // when
+        mockMvc.perform(get("/api/articles/{id}", savedArticle.getId()))
+                .andExpect(status().isOk());
+
+        // then
+        assertThat(meterRegistry.find("blog.service")
+                .tag("class", BlogService.class.getName())
+                .tag("method", "findById")
+                .timer()).isNotNull();
+    }
+
+    @DisplayName("findArticle: 글 응답과 조회수 조회에 DB에 반영하기 전의 증가분을 포함한 조회수를 담는다.")
+    @Test
+    public void findArticleCountsViews() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        // when : 두 번 조회, 글 응답에는 이번 조회를 포함한 조회수가 담김
+        String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(jsonPath("$.viewCount").value(1))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(jsonPath("$.viewCount").value(2));
+
+        // then : DB에 반영하기 전에도 메모리의 증가분이 더해져 보임
+        mockMvc.perform(get(url + "/views", savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(savedArticle.getId()))
+                .andExpect(jsonPath("$.viewCount").value(2));
+
+        // when : 누적된 조회수를 DB에 반영
+        articleViewCounter.flush();
+
+        // then : 반영 후에도 같은 조회수, 글은 바뀌지 않았으므로 같은 ETag로 304
+        assertThat(blogRepository.findById(savedArticle.getId()).get().getViewCount()).isEqualTo(2);
+        mockMvc.perform(get(url + "/views", savedArticle.getId()))
+                .andExpect(jsonPath("$.viewCount").value(2));
+        mockMvc.perform(get(url, savedArticle.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @DisplayName("findPopularArticles: 기간 동안 조회수가 많은 글부터 조회한다.")
+    @Test
+    public void findPopularArticles() throws Exception {
+        // given : 두 번째 글을 더 많이 조회
+        final String url = "/api/articles/{id}";
+        Article first = blogRepository.save(Article.builder().title("first").content("content").build());
+        Article second = blogRepository.save(Article.builder().title("second").content("content").build());
+        mockMvc.perform(get(url, first.getId()));
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get(url, second.getId()));
+        }
+        popularArticles.refresh();
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/articles/popular").param("window", "24h"));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("second"))
+                .andExpect(jsonPath("$[0].views").value(3))
+                .andExpect(jsonPath("$[1].title").value("first"));
+        mockMvc.perform(get("/api/articles/popular").param("window", "7d"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("findPopularArticlesWithDeletedArticles: 삭제된 글은 인기 글에서 빠지고 다음 순위로 채운다.")
+    @Test
+    public void findPopularArticlesWithDeletedArticles() throws Exception {
+        // given : 12개의 글, 뒤에 만든 글일수록 조회수가 많음 (상위 10개에는 먼저 만든 두 글이 빠짐)
+        List<Article> articles = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Article article = blogRepository.save(Article.builder().title("title" + i).content("content").build());
+            for (int j = 0; j <= i; j++) {
+                popularArticles.record(article.getId());
+            }
+            articles.add(article);
+        }
+
+        // when : 1위 글은 레포지토리로 직접 삭제(인기 글 기록이 남음), 2위 글은 API로 삭제
+        blogRepository.deleteById(articles.get(11).getId());
+        mockMvc.perform(delete("/api/articles/{id}", articles.get(10).getId()));
+        popularArticles.refresh();
+
+        // then : 삭제된 두 글 대신 다음 순위의 글로 10개를 채움
+        mockMvc.perform(get("/api/articles/popular").param("window", "1h"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(10))
+                .andExpect(jsonPath("$[0].title").value("title9"))
+                .andExpect(jsonPath("$[9].title").value("title0"));
+    }
+
     @DisplayName("deleteArticle: 블로그 글 삭제에 성공한다.")
     @Test
     public void deleteArticle() throws Exception {
@@ -178,6 +510,82 @@ class BlogApiControllerTest {
         assertThat(articles).asList().isEmpty();
     }
 
+    @DisplayName("deleteArticles: 여러 블로그 글을 한 번에 삭제한다.")
+    @Test
+    public void deleteArticles() throws Exception {
+        // given : 세 글 중 두 글만 삭제, 없는 id는 무시됨
+        final String url = "/api/articles";
+        Article first = blogRepository.save(Article.builder().title("title 1").content("content 1").build());
+        Article second = blogRepository.save(Article.builder().title("title 2").content("content 2").build());
+        Article third = blogRepository.save(Article.builder().title("title 3").content("content 3").build());
+
+        // when
+        ResultActions result = mockMvc.perform(delete(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(
+                        new DeleteArticlesRequest(List.of(first.getId(), third.getId(), 999999L)))));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        List<Article> articles = blogRepository.findAll();
+        assertThat(articles.size()).isEqualTo(1);
+        assertThat(articles.get(0).getId()).isEqualTo(second.getId());
+    }
+
+    @DisplayName("deleteArticles: 한 묶음보다 많은 글을 나눠서 삭제하고, 삭제된 글은 캐시에서도 제거한다.")
+    @Test
+    public void deleteArticlesInChunks() throws Exception {
+        // given : 묶음 경계 양쪽에 있는 글을 캐시에 올려둠
+        final String url = "/api/articles";
+        Article first = blogRepository.save(Article.builder().title("title 1").content("content 1").build());
+        Article last = blogRepository.save(Article.builder().title("title 2").content("content 2").build());
+        blogService.findById(first.getId());
+        blogService.findById(last.getId());
+
+        List<Long> ids = new ArrayList<>();
+        ids.add(first.getId());
+        for (long id = 1; id < BlogService.DELETE_CHUNK_SIZE + 10; id++) {
+            ids.add(-id);   // 없는 id
+        }
+        ids.add(last.getId());
+
+        // when
+        ResultActions result = mockMvc.perform(delete(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new DeleteArticlesRequest(ids))));
+
+        // then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(2));
+
+        assertThat(blogRepository.count()).isEqualTo(0);
+        Cache articleCache = cacheManager.getCache(CacheConfig.ARTICLE_CACHE);
+        assertThat(articleCache.get(first.getId())).isNull();
+        assertThat(articleCache.get(last.getId())).isNull();
+    }
+
+    @DisplayName("deleteArticles: 한 번에 삭제할 수 있는 글의 수를 넘으면 하나도 삭제하지 않고 413으로 응답한다.")
+    @Test
+    public void deleteArticlesTooMany() throws Exception {
+        // given
+        final String url = "/api/articles";
+        Article article = blogRepository.save(Article.builder().title("title").content("content").build());
+        List<Long> ids = new ArrayList<>(Collections.nCopies(BlogService.MAX_BATCH_SIZE, -1L));
+        ids.add(article.getId());
+
+        // when
+        ResultActions result = mockMvc.perform(delete(url)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new DeleteArticlesRequest(ids))));
+
+        // then
+        result.andExpect(status().isPayloadTooLarge());
+
+        assertThat(blogRepository.count()).isEqualTo(1);
+    }
+
     @DisplayName("updateArticle: 블로그 글 수정에 성공한다.")
     @Test
     public void updateArticle() throws Exception {
@@ -194,7 +602,7 @@ class BlogApiControllerTest {
         final String newTitle = "new title";
         final String newContent = "new content";
 
-        UpdateArticleRequest request = new UpdateArticleRequest(newTitle, newContent);
+        UpdateArticleRequest request = new UpdateArticleRequest(newTitle, newContent, savedArticle.getVersion());
 
         // when
         ResultActions result = mockMvc.perform(put(url, savedArticle.getId())
@@ -209,4 +617,181 @@ class BlogApiControllerTest {
         assertThat(article.getTitle()).isEqualTo(newTitle);
         assertThat(article.getContent()).isEqualTo(newContent);
     }
-}
\ No newline at end of file
+
+    @DisplayName("updateArticle: 조회해서 캐시된 글도 수정 후에는 수정된 내용으로 조회된다.")
+    @Test
+    public void updateArticleEvictsCache() throws Exception {
+        // given : 글을 한 번 조회해서 캐시에 올려둠
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(jsonPath("$.title").value("title"));
+
+        UpdateArticleRequest request = new UpdateArticleRequest("new title", "new content", savedArticle.getVersion());
+
+        // when
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        // then
+        mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"))
+                .andExpect(jsonPath("$.content").value("new content"));
+    }
+
+    @DisplayName("updateArticle: 이미 다른 요청이 수정한 버전으로 수정하면 409 Conflict를 반환한다.")
+    @Test
+    public void updateArticleConflict() throws Exception {
+        // given : 같은 버전을 읽은 두 사용자가 차례로 수정
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        final Long version = savedArticle.getVersion();
+
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(objectMapper.writeValueAsString(new UpdateArticleRequest("first", "first", version))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(version + 1));
+
+        // when
+        ResultActions result = mockMvc.perform(put(url, savedArticle.getId())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new UpdateArticleRequest("second", "second", version))));
+
+        // then : 두 번째 수정은 거절되고 첫 번째 수정 내용이 남아있음
+        result.andExpect(status().isConflict());
+        assertThat(blogRepository.findById(savedArticle.getId()).get().getTitle()).isEqualTo("first");
+    }
+
+    @DisplayName("updateArticle: 버전 대신 If-Match 헤더의 ETag로 수정할 수 있고, 둘 다 없으면 428을 반환한다.")
+    @Test
+    public void updateArticleWithIfMatch() throws Exception {
+        // given : 글을 조회해서 ETag를 받아둠
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+        final String requestBody = objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "new content", null));
+
+        // when & then : 버전도 If-Match도 없으면 428 Precondition Required
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isPreconditionRequired());
+
+        // when & then : If-Match가 현재 ETag와 같으면 수정 성공
+        mockMvc.perform(put(url, savedArticle.getId())
+                        .header(HttpHeaders.IF_MATCH, eTag)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("new title"));
+    }
+
+    @DisplayName("updateArticle: If-Match가 *, 약한 ETag, 형식이 다른 값이거나 현재 ETag와 다르면 412를 반환한다.")
+    @Test
+    public void updateArticleIfMatchPreconditionFailed() throws Exception {
+        // given
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+        final long id = savedArticle.getId();
+        final long version = savedArticle.getVersion();
+        final String requestBody = objectMapper.writeValueAsString(new UpdateArticleRequest("new title", "new content", null));
+
+        // when & then : 버전을 알 수 없거나 현재 버전이 아닌 ETag는 모두 412 Precondition Failed
+        for (String ifMatch : List.of("*", "W/\"" + id + "-" + version + "\"", "not-an-etag",
+                "\"" + id + "-" + (version + 1) + "\"")) {
+            mockMvc.perform(put(url, id)
+                            .header(HttpHeaders.IF_MATCH, ifMatch)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE)
+                            .content(requestBody))
+                    .andExpect(status().isPreconditionFailed());
+        }
+        assertThat(blogRepository.findById(id).get().getTitle()).isEqualTo("title");
+
+        // when & then : 나열한 ETag 중 하나라도 현재 ETag와 같으면 수정 성공
+        mockMvc.perform(put(url, id)
+                        .header(HttpHeaders.IF_MATCH, "\"" + id + "-" + (version + 1) + "\", \"" + id + "-" + version + "\"")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + id + "-" + (version + 1) + "\""));
+    }
+
+    @DisplayName("addArticle: 목록을 조회해 캐시된 뒤에 추가한 글도 목록에 바로 나타난다.")
+    @Test
+    public void addArticleInvalidatesListCache() throws Exception {
+        // given : 목록을 한 번 조회해 캐시에 저장
+        final String url = "/api/articles";
+        mockMvc.perform(get(url))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        final String requestBody = objectMapper.writeValueAsString(new AddArticleRequest("title", "content"));
+
+        // when
+        mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content(requestBody))
+                .andExpect(status().isCreated());
+
+        // then
+        mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("title"));
+    }
+
+    @DisplayName("findArticle: 글이 바뀌지 않았으면 ETag로 조건부 조회 시 304를 응답한다.")
+    @Test
+    public void findArticleNotModified() throws Exception {
+        // given : 글을 조회해서 ETag를 받아둠
+        final String url = "/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        String eTag = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        // when
+        final ResultActions resultActions = mockMvc.perform(get(url, savedArticle.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // then
+        resultActions
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @DisplayName("R2DBC 읽기 API는 기본으로 등록하지 않고, R2DBC 커넥션 없이 JDBC 자동 설정만 사용한다.")
+    @Test
+    public void reactiveApiDisabledByDefault() throws Exception {
+        assertThat(context.getBeanNamesForType(R2dbcConfig.class).length).isEqualTo(0);
+        assertThat(context.getBeanNamesForType(ConnectionFactory.class).length).isEqualTo(0);
+
+        mockMvc.perform(get("/rx/api/articles"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,144 @@
+package me.nyungnim.blog.controller;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.ConnectionFactory;
+import me.nyungnim.blog.domain.Article;
+import me.nyungnim.blog.domain.repository.BlogRepository;
+import me.nyungnim.blog.service.ArticleListCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.web.context.WebApplicationContext;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// R2DBC 읽기 API는 blog.reactive.enabled=true일 때만 등록됨
+@SpringBootTest(properties = "blog.reactive.enabled=true")
+@AutoConfigureMockMvc
+class RxBlogApiControllerTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleListCache articleListCache;
+
+    @BeforeEach
+    public void mockMvcSetUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(context)
+                .build();
+        blogRepository.deleteAll();
+        articleListCache.invalidate();
+    }
+
+    @DisplayName("findArticle: R2DBC로 JPA와 같은 article 테이블의 글을 조회한다.")
+    @Test
+    public void findArticle() throws Exception {
+        // given
+        final String url = "/rx/api/articles/{id}";
+        Article savedArticle = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        // when : 비동기로 처리되므로 결과가 준비된 뒤 다시 디스패치
+        MvcResult result = mockMvc.perform(get(url, savedArticle.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(savedArticle.getId()))
+                .andExpect(jsonPath("$.title").value("title"))
+                .andExpect(jsonPath("$.content").value("content"))
+                .andExpect(jsonPath("$.version").value(savedArticle.getVersion()));
+    }
+
+    @DisplayName("findArticle: 없는 글이면 404 Not Found를 반환한다.")
+    @Test
+    public void findArticleNotFound() throws Exception {
+        MvcResult result = mockMvc.perform(get("/rx/api/articles/{id}", 999_999L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+
+    @DisplayName("streamArticles: 전체 글을 한 줄에 하나씩 최신 글부터 스트리밍한다.")
+    @Test
+    public void streamArticles() throws Exception {
+        // given
+        blogRepository.save(Article.builder().title("title 1").content("content 1").build());
+        blogRepository.save(Article.builder().title("title 2").content("content 2").build());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/rx/api/articles").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // then
+        String[] lines = body.trim().split("\n");
+        assertThat(lines.length).isEqualTo(2);
+        assertThat(lines[0]).contains("\"title\":\"title 2\"");
+    }
+
+    @DisplayName("findArticles: 글 목록 한 페이지를 JSON 배열로 조회한다.")
+    @Test
+    public void findArticles() throws Exception {
+        // given
+        blogRepository.save(Article.builder().title("title 1").content("content 1").build());
+        blogRepository.save(Article.builder().title("title 2").content("content 2").build());
+
+        // when
+        MvcResult result = mockMvc.perform(get("/rx/api/articles").param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].title").value("title 2"));
+    }
+
+    @DisplayName("R2DBC 커넥션 풀을 빈으로 등록해도 JDBC DataSource와 JPA 트랜잭션 매니저를 그대로 사용한다.")
+    @Test
+    public void connectionFactoryBean() {
+        assertThat(context.getBean(ConnectionFactory.class)).isInstanceOf(ConnectionPool.class);
+        assertThat(context.getBean(DataSource.class)).isInstanceOf(HikariDataSource.class);
+        assertThat(context.getBeansOfType(TransactionManager.class).values())
+                .singleElement()
+                .isInstanceOf(JpaTransactionManager.class);
+    }
+}
@@ -0,0 +1,54 @@
+package me.nyungnim.blog.domain.repository;
+
+import me.nyungnim.blog.domain.Article;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BlogRepositoryTest {
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("updateById: 같은 트랜잭션에서 수정한 글을 다시 조회하면 수정된 값을 읽는다.")
+    @Test
+    public void updateByIdRefreshesPersistenceContext() {
+        // given
+        Article saved = blogRepository.save(Article.builder()
+                .title("title")
+                .content("content")
+                .build());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 수정 전에 조회해서 영속성 컨텍스트에 올려둠
+            Article before = blogRepository.findById(saved.getId()).orElseThrow();
+
+            // when
+            int updated = blogRepository.updateById(saved.getId(), before.getVersion(), "new title", "new content",
+                    LocalDateTime.now());
+
+            // then : 영속성 컨텍스트에 남아있던 수정 전 엔티티가 아니라 DB의 값을 읽음
+            Article after = blogRepository.findById(saved.getId()).orElseThrow();
+            assertThat(updated).isEqualTo(1);
+            assertThat(after.getTitle()).isEqualTo("new title");
+            assertThat(after.getContent()).isEqualTo("new content");
+            assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+        });
+    }
+}
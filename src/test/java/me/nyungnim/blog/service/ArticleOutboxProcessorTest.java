@@ -0,0 +1,91 @@
+package me.nyungnim.blog.service;
+
+import me.nyungnim.blog.domain.repository.ArticleOutboxRepository;
+import me.nyungnim.blog.domain.repository.BlogRepository;
+import me.nyungnim.blog.dto.AddArticleRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+class ArticleOutboxProcessorTest {
+
+    @Autowired
+    ArticleOutboxProcessor articleOutboxProcessor;
+
+    @Autowired
+    ArticleSearchIndex articleSearchIndex;
+
+    @Autowired
+    BlogService blogService;
+
+    @Autowired
+    BlogRepository blogRepository;
+
+    @Autowired
+    ArticleOutboxRepository articleOutboxRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setUp() {
+        blogRepository.deleteAll();
+    }
+
+    @DisplayName("drain: 먼저 할당된 기록이 나중에 커밋되어도 건너뛰지 않고 색인한다.")
+    @Test
+    public void drainCommitOutOfOrder() throws Exception {
+        // given : 첫 번째 글은 기록 id를 먼저 받지만 커밋하지 않고 기다림
+        CountDownLatch saved = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> slowTransaction = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    blogService.save(new AddArticleRequest("사과 이야기", "늦게 커밋되는 글"));
+                    saved.countDown();
+                    awaitLatch(commit);
+                }));
+        assertThat(saved.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 두 번째 글은 기록 id를 나중에 받지만 먼저 커밋됨
+        blogService.save(new AddArticleRequest("바나나 이야기", "먼저 커밋되는 글"));
+
+        // when : 다른 스레드(커밋 이벤트)가 처리 중이면 drain()은 바로 반환하므로 반영될 때까지 기다림
+        articleOutboxProcessor.drain();
+
+        // then : 먼저 커밋된 글만 색인됨
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(articleSearchIndex.search("바나나", 0, 10).getTotal()).isEqualTo(1));
+        assertThat(articleSearchIndex.search("사과", 0, 10).getTotal()).isEqualTo(0);
+
+        // when : 첫 번째 글이 커밋된 뒤에 다시 처리
+        commit.countDown();
+        slowTransaction.get(10, TimeUnit.SECONDS);
+        articleOutboxProcessor.drain();
+
+        // then : offset이 비어 있던 id에서 멈춰 있었으므로 늦게 커밋된 글도 색인됨
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(articleSearchIndex.search("사과", 0, 10).getTotal()).isEqualTo(1));
+        // 기록은 다른 인스턴스도 처리해야 하므로 처리한 뒤에도 보관 기간 동안 남아있음
+        assertThat(articleOutboxRepository.count()).isGreaterThanOrEqualTo(2);
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package me.nyungnim.blog.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleSearchIndexTest {
+
+    @TempDir
+    Path indexPath;
+
+    @DisplayName("commit: 재시작해도 커밋한 인덱스와 아웃박스 offset을 그대로 다시 연다.")
+    @Test
+    public void reopenCommittedIndex() throws Exception {
+        // given : 글을 색인하고 offset과 함께 커밋한 뒤 종료
+        ArticleSearchIndex index = new ArticleSearchIndex(indexPath.toString());
+        assertThat(index.committedOffset()).isNull();
+        index.index(1L, "사과 이야기", "사과는 맛있다");
+        index.commit(5);
+        index.index(2L, "바나나 이야기", "커밋하지 않은 글");
+        index.destroy();
+
+        // when
+        ArticleSearchIndex reopened = new ArticleSearchIndex(indexPath.toString());
+
+        // then : 커밋한 글과 offset만 남아있음
+        try {
+            assertThat(reopened.committedOffset()).isEqualTo(5);
+            assertThat(reopened.count()).isEqualTo(1);
+            assertThat(reopened.search("사과", 0, 10).getTotal()).isEqualTo(1);
+            assertThat(reopened.search("바나나", 0, 10).getTotal()).isEqualTo(0);
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @DisplayName("rebuild: 전체 재색인 중에는 만드는 중인 인덱스를 검색 결과에 반영하거나 커밋하지 않는다.")
+    @Test
+    public void rebuildIsHiddenUntilFinished() throws Exception {
+        // given
+        ArticleSearchIndex index = new ArticleSearchIndex(indexPath.toString());
+        try {
+            index.index(1L, "사과 이야기", "사과는 맛있다");
+            index.commit(5);
+            index.refresh();
+
+            // when : 기존 색인을 지우고 다시 만드는 중
+            index.startRebuild();
+            index.rebuild(2L, "바나나 이야기", "바나나는 길다");
+            index.refresh();
+            index.commit(7);
+
+            // then : 검색은 재색인 전의 결과, 커밋도 이전 그대로
+            assertThat(index.search("사과", 0, 10).getTotal()).isEqualTo(1);
+            assertThat(index.search("바나나", 0, 10).getTotal()).isEqualTo(0);
+            assertThat(index.committedOffset()).isEqualTo(5);
+
+            // when : 재색인이 끝나면 새 인덱스로 바뀜
+            index.finishRebuild();
+            index.commit(7);
+
+            // then
+            assertThat(index.search("사과", 0, 10).getTotal()).isEqualTo(0);
+            assertThat(index.search("바나나", 0, 10).getTotal()).isEqualTo(1);
+            assertThat(index.committedOffset()).isEqualTo(7);
+        } finally {
+            index.destroy();
+        }
+    }
+
+    @DisplayName("ArticleSearchIndex: 다른 인스턴스가 사용 중인 디렉터리는 열지 않고 설정할 속성을 알려준다.")
+    @Test
+    public void failWhenDirectoryIsLocked() throws Exception {
+        ArticleSearchIndex index = new ArticleSearchIndex(indexPath.toString());
+        try {
+            assertThatThrownBy(() -> new ArticleSearchIndex(indexPath.toString()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("blog.search.index-path");
+        } finally {
+            index.destroy();
+        }
+    }
+}
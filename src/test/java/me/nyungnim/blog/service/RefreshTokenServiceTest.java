@@ -0,0 +1,122 @@
+package me.nyungnim.blog.service;
+
+import me.nyungnim.blog.config.jwt.JwtFactory;
+import me.nyungnim.blog.config.jwt.JwtProperties;
+import me.nyungnim.blog.domain.RefreshToken;
+import me.nyungnim.blog.domain.User;
+import me.nyungnim.blog.domain.repository.RefreshTokenOwner;
+import me.nyungnim.blog.domain.repository.RefreshTokenRepository;
+import me.nyungnim.blog.domain.repository.UserRepository;
+import me.nyungnim.blog.util.HashUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class RefreshTokenServiceTest {
+
+    @Autowired
+    RefreshTokenService refreshTokenService;
+
+    @Autowired
+    RefreshTokenHashBackfill refreshTokenHashBackfill;
+
+    @Autowired
+    RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    @Autowired
+    JwtProperties jwtProperties;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private User testUser;
+
+    @BeforeEach
+    public void setUp() {
+        refreshTokenRepository.deleteAll();
+        userRepository.deleteAll();
+        testUser = userRepository.save(User.builder()
+                .email("user@gmail.com")
+                .password("test")
+                .build());
+    }
+
+    @DisplayName("findOwnerByRefreshToken: 리프레시 토큰의 해시로 토큰 주인의 id, email을 조회한다.")
+    @Test
+    public void findOwnerByRefreshToken() {
+        // given
+        String refreshToken = createRefreshToken();
+        refreshTokenRepository.save(new RefreshToken(testUser.getId(), refreshToken));
+
+        // when
+        RefreshTokenOwner owner = refreshTokenService.findOwnerByRefreshToken(refreshToken);
+
+        // then : 원문이 아니라 해시 컬럼에 저장된 값으로 조회됨
+        assertThat(owner.getUserId()).isEqualTo(testUser.getId());
+        assertThat(owner.getEmail()).isEqualTo("user@gmail.com");
+        assertThat(refreshTokenRepository.findByRefreshTokenHash(HashUtil.sha256Hex(refreshToken))).isPresent();
+    }
+
+    @DisplayName("findOwnerByRefreshToken: 해시가 같아도 저장된 토큰 원문과 다르면 조회에 실패한다.")
+    @Test
+    public void findOwnerByRefreshTokenRejectsDifferentToken() {
+        // given : 저장된 토큰과 다른 토큰의 해시를 해시 컬럼에 넣어 해시 충돌 상황을 만듦
+        String storedToken = createRefreshToken();
+        String otherToken = storedToken + "x";
+        RefreshToken saved = refreshTokenRepository.save(new RefreshToken(testUser.getId(), storedToken));
+        jdbcTemplate.update("update refresh_token set refresh_token_hash = ? where id = ?",
+                HashUtil.sha256Hex(otherToken), saved.getId());
+
+        // when & then : 원문 비교에서 걸러짐
+        assertThatThrownBy(() -> refreshTokenService.findOwnerByRefreshToken(otherToken))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> refreshTokenService.findByRefreshToken(otherToken))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("findOwnerByRefreshToken: 저장되지 않은 토큰이면 조회에 실패한다.")
+    @Test
+    public void findOwnerByUnknownRefreshToken() {
+        assertThatThrownBy(() -> refreshTokenService.findOwnerByRefreshToken(createRefreshToken()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("RefreshTokenHashBackfill: 해시 컬럼이 비어있는 이전 토큰의 해시를 채워 조회할 수 있게 한다.")
+    @Test
+    public void backfillRefreshTokenHash() {
+        // given : 해시 컬럼이 추가되기 전에 저장된 행
+        String refreshToken = createRefreshToken();
+        jdbcTemplate.update("insert into refresh_token (user_id, refresh_token) values (?, ?)",
+                testUser.getId(), refreshToken);
+        assertThatThrownBy(() -> refreshTokenService.findByRefreshToken(refreshToken))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        // when
+        refreshTokenHashBackfill.run(null);
+
+        // then
+        assertThat(refreshTokenRepository.findByRefreshTokenHashIsNull(Pageable.unpaged()))
+                .isEmpty();
+        assertThat(refreshTokenService.findByRefreshToken(refreshToken).getUserId()).isEqualTo(testUser.getId());
+    }
+
+    private String createRefreshToken() {
+        return JwtFactory.builder()
+                .claims(Map.of("id", testUser.getId()))
+                .build()
+                .createToken(jwtProperties);
+    }
+}